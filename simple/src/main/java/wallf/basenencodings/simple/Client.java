@@ -1,6 +1,11 @@
 package wallf.basenencodings.simple;
 
 import wallf.basenencodings.BaseEncoding;
+import wallf.basenencodings.DecodingInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.util.Arrays;
 
 public class Client {
@@ -10,12 +15,15 @@ public class Client {
 
     public static void main(String args[]) {
         BaseEncoding b64 = BaseEncoding.getBase64(), b64Safe = BaseEncoding.getBase64Safe(), b32 = BaseEncoding.getBase32(), b32Hex = BaseEncoding.getBase32Hex(), b16 = BaseEncoding.getBase16();
+        BaseEncoding b64Mime = BaseEncoding.getBase64Mime(), b64Pem = BaseEncoding.getBase64Pem();
         for (String vector : TEST_VECTORS) {
             usage1("Base64", b64, vector);
             usage2("Base64Safe", b64Safe, vector);
             usage1("Base32", b32, vector);
             usage3("Base32Hex", b32Hex, vector);
             usage2("Base16", b16, vector);
+            usage4("Base64Mime", b64Mime, vector);
+            usage4("Base64Pem", b64Pem, vector);
         }
     }
 
@@ -65,6 +73,37 @@ public class Client {
                 + new String(baseChars) + "\t" + (arrayEquals(origin, binData) ? "Success" : "failed"));
     }
 
+    // ========= USAGE 4 =========
+    // String BaseEncoding.toBaseString(byte[] bytes) of a wrapped encoding
+    // byte[] BaseEncoding.fromBaseString(String s)
+    // DecodingInputStream(BaseEncoding encoding, Reader reader)
+    static void usage4(String testName, BaseEncoding encoding, String testVector) {
+        // the vector is repeated so the output is wrapped into several lines
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 30; i++)
+            sb.append(testVector);
+        byte[] origin = sb.toString().getBytes();
+        String baseString = encoding.toBaseString(origin);
+        byte[] bytes = encoding.fromBaseString(baseString);
+        byte[] streamBytes;
+        try {
+            streamBytes = readAll(new DecodingInputStream(encoding, new StringReader(baseString)));
+        } catch (IOException e) {
+            streamBytes = null;
+        }
+        System.out.println("[" + testName + "]\tVector: " + testVector + " x 30\tLines: " + baseString.split("\r\n", -1).length + "\t"
+                + (arrayEquals(origin, bytes) && arrayEquals(origin, streamBytes) && encoding.isValidBaseString(baseString) ? "Success" : "failed"));
+    }
+
+    static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[64];
+        for (int n; (n = in.read(buffer, 0, buffer.length)) > 0; )
+            out.write(buffer, 0, n);
+        in.close();
+        return out.toByteArray();
+    }
+
     static boolean arrayEquals(byte[] arr1, byte[] arr2) {
         if (arr1 == null || arr2 == null) return false;
         if (arr1.length != arr2.length) return false;
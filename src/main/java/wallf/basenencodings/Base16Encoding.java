@@ -1,5 +1,9 @@
 package wallf.basenencodings;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.UUID;
+
 /**
  * Represents a Base16 encoding. <br />
  * Default constructor will create a standard Base16 encoding(RFC 4648).
@@ -60,7 +64,7 @@ public class Base16Encoding extends BaseEncoding {
         }
         this.alphabet = alphabet.clone();
         this.encodingName = encodingName;
-        this.b = new Base16(this.alphabet);
+        this.b = EngineCache.getBase16(this.alphabet);
     }
 
 
@@ -96,6 +100,30 @@ public class Base16Encoding extends BaseEncoding {
         return 0;
     }
 
+    /**
+     * Return value is always 1, because of each byte is encoded separately by Base16 Encoding.
+     */
+    @Override
+    public int getBytesPerQuantum() {
+        return 1;
+    }
+
+    /**
+     * Return value is always 2, because of each byte is encoded into 2 characters by Base16 Encoding.
+     */
+    @Override
+    public int getCharsPerQuantum() {
+        return 2;
+    }
+
+    /**
+     * Gets a value indicating whether the alphabet of the current encoding consists of ASCII characters only.
+     */
+    @Override
+    public boolean isAsciiCompatible() {
+        return b.isAscii();
+    }
+
     /**
      * @see int BaseEncoding.getEncodeCountWithoutArgumentsValidation(int length)
      */
@@ -155,4 +183,250 @@ public class Base16Encoding extends BaseEncoding {
     protected boolean isValidBaseSequenceWithoutArgumentsValidation(char[] chars, int offset, int length) {
         return b.isValidBaseSequence(chars, offset, length);
     }
-}
\ No newline at end of file
+
+    /**
+     * @see byte[] BaseEncoding.encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length)
+     */
+    @Override
+    protected byte[] encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        byte[] r = new byte[b.encodeSize(length)];
+        b.encode(bytes, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut)
+     */
+    @Override
+    protected int encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.decodeSize(length);
+    }
+
+    /**
+     * @see byte[] BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected byte[] decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        byte[] r = new byte[b.decodeSize(length)];
+        b.decode(ascii, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.decode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see boolean BaseEncoding.isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected boolean isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.isValidBaseSequence(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut)
+     */
+    @Override
+    protected int encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length) {
+        return b.decodeSize(length);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length) {
+        return b.decodeSize(length);
+    }
+
+    /**
+     * @see int BaseEncoding.decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return b.decode(new BufferSequence(charsIn), offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return b.decode(new BufferSequence(asciiIn), offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.decodeSize(length);
+    }
+
+    /**
+     * @see byte[] BaseEncoding.decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected byte[] decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        byte[] r = new byte[b.decodeSize(length)];
+        b.decode(chars, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see boolean BaseEncoding.isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected boolean isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.isValidBaseSequence(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.tryDecodeSize(length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.tryDecodeSize(length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length) {
+        return b.indexOfInvalid(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.indexOfInvalid(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.indexOfInvalid(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut) {
+        return b.encodeLong(value, charsOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        return b.encodeUuid(mostSigBits, leastSigBits, charsOut, offsetOut);
+    }
+
+    /**
+     * @see long BaseEncoding.decodeLongWithoutArgumentsValidation(char[] chars, int offset)
+     */
+    @Override
+    protected long decodeLongWithoutArgumentsValidation(char[] chars, int offset) {
+        return b.decodeLong(chars, offset);
+    }
+
+    /**
+     * @see long BaseEncoding.decodeLongWithoutArgumentsValidation(CharSequence chars, int offset)
+     */
+    @Override
+    protected long decodeLongWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return b.decodeLong(chars, offset);
+    }
+
+    /**
+     * @see UUID BaseEncoding.decodeUuidWithoutArgumentsValidation(char[] chars, int offset)
+     */
+    @Override
+    protected UUID decodeUuidWithoutArgumentsValidation(char[] chars, int offset) {
+        return b.decodeUuid(chars, offset);
+    }
+
+    /**
+     * @see UUID BaseEncoding.decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset)
+     */
+    @Override
+    protected UUID decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return b.decodeUuid(chars, offset);
+    }
+}
@@ -1,5 +1,9 @@
 package wallf.basenencodings;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.UUID;
+
 /**
  * Represents a Base32 encoding. <br />
  * Default constructor will create a standard Base32 encoding(RFC 4648).
@@ -22,7 +26,9 @@ public class Base32Encoding extends BaseEncoding {
     private final char[] alphabet;
     private final char padding;
     private final String encodingName;
+    private final boolean paddingRequired;
     private final Base32 b;
+    private Base32Encoding unpadded;
 
     /**
      * Initializes a new instance that is a standard Base32 encoding(<a href="http://tools.ietf.org/rfc/rfc4648.txt">RFC 4648</a>).
@@ -55,6 +61,10 @@ public class Base32Encoding extends BaseEncoding {
     }
 
     Base32Encoding(char[] alphabet, char padding, String encodingName, boolean verify) {
+        this(alphabet, padding, encodingName, true, verify);
+    }
+
+    Base32Encoding(char[] alphabet, char padding, String encodingName, boolean paddingRequired, boolean verify) {
         if (verify) {
             if (alphabet == null)
                 throw new IllegalArgumentException("alphabet is null");
@@ -68,7 +78,8 @@ public class Base32Encoding extends BaseEncoding {
         this.alphabet = alphabet.clone();
         this.padding = padding;
         this.encodingName = encodingName;
-        this.b = new Base32(this.alphabet, this.padding);
+        this.paddingRequired = paddingRequired;
+        this.b = EngineCache.getBase32(this.alphabet, this.padding, paddingRequired);
     }
 
 
@@ -89,11 +100,27 @@ public class Base32Encoding extends BaseEncoding {
     }
 
     /**
-     * Return values is always true for the Base32 Encoding.
+     * Return value is true for the Base32 Encoding, except the encodings returned by withoutPadding().
      */
     @Override
     public boolean isPaddingRequired() {
-        return true;
+        return paddingRequired;
+    }
+
+    /**
+     * Gets a Base32 encoding with the same alphabet as the current encoding, which does not pad the encoded output and accepts the input with or without padding.
+     *
+     * @see BaseEncoding BaseEncoding.withoutPadding()
+     */
+    @Override
+    public Base32Encoding withoutPadding() {
+        if (!paddingRequired)
+            return this;
+        // created on first use, a race creates equal immutable instances and the final fields make any of them safe to share
+        Base32Encoding encoding = unpadded;
+        if (encoding == null)
+            unpadded = encoding = new Base32Encoding(alphabet, padding, encodingName + " without Padding", false, false);
+        return encoding;
     }
 
     /**
@@ -104,6 +131,30 @@ public class Base32Encoding extends BaseEncoding {
         return padding;
     }
 
+    /**
+     * Return value is always 5, because of the 40-bit groups of input are encoded by Base32 Encoding.
+     */
+    @Override
+    public int getBytesPerQuantum() {
+        return 5;
+    }
+
+    /**
+     * Return value is always 8, because of each 40-bit group is encoded into 8 characters by Base32 Encoding.
+     */
+    @Override
+    public int getCharsPerQuantum() {
+        return 8;
+    }
+
+    /**
+     * Gets a value indicating whether the alphabet and the padding character of the current encoding are all ASCII characters.
+     */
+    @Override
+    public boolean isAsciiCompatible() {
+        return b.isAscii();
+    }
+
     /**
      * @see int BaseEncoding.getEncodeCountWithoutArgumentsValidation(int length)
      */
@@ -135,7 +186,7 @@ public class Base32Encoding extends BaseEncoding {
      */
     @Override
     protected int getDecodeCountWithoutArgumentsValidation(char[] chars, int offset, int length) {
-        return b.decodeSize(chars, offset, length, new TypeWrapper<Integer>());
+        return b.decodeSize(chars, offset, length);
     }
 
     /**
@@ -143,9 +194,8 @@ public class Base32Encoding extends BaseEncoding {
      */
     @Override
     protected byte[] decodeWithoutArgumentsValidation(char[] chars, int offset, int length) {
-        TypeWrapper<Integer> paddingNumWrapper = new TypeWrapper<Integer>();
-        byte[] r = new byte[b.decodeSize(chars, offset, length, paddingNumWrapper)];
-        b.decode(chars, offset, length, r, 0, r.length, paddingNumWrapper.getValue());
+        byte[] r = new byte[b.decodeSize(chars, offset, length)];
+        b.decode(chars, offset, length, r, 0, r.length);
         return r;
     }
 
@@ -164,4 +214,250 @@ public class Base32Encoding extends BaseEncoding {
     protected boolean isValidBaseSequenceWithoutArgumentsValidation(char[] chars, int offset, int length) {
         return b.isValidBaseSequence(chars, offset, length);
     }
-}
\ No newline at end of file
+
+    /**
+     * @see byte[] BaseEncoding.encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length)
+     */
+    @Override
+    protected byte[] encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        byte[] r = new byte[b.encodeSize(length)];
+        b.encode(bytes, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut)
+     */
+    @Override
+    protected int encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.decodeSize(ascii, offset, length);
+    }
+
+    /**
+     * @see byte[] BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected byte[] decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        byte[] r = new byte[b.decodeSize(ascii, offset, length)];
+        b.decode(ascii, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.decode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see boolean BaseEncoding.isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected boolean isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.isValidBaseSequence(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut)
+     */
+    @Override
+    protected int encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length) {
+        return b.decodeSize(new BufferSequence(chars), offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length) {
+        return b.decodeSize(new BufferSequence(ascii), offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return b.decode(new BufferSequence(charsIn), offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return b.decode(new BufferSequence(asciiIn), offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.decodeSize(chars, offset, length);
+    }
+
+    /**
+     * @see byte[] BaseEncoding.decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected byte[] decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        byte[] r = new byte[b.decodeSize(chars, offset, length)];
+        b.decode(chars, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see boolean BaseEncoding.isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected boolean isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.isValidBaseSequence(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.tryDecodeSize(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.tryDecodeSize(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length) {
+        return b.indexOfInvalid(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.indexOfInvalid(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.indexOfInvalid(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut) {
+        return b.encodeLong(value, charsOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        return b.encodeUuid(mostSigBits, leastSigBits, charsOut, offsetOut);
+    }
+
+    /**
+     * @see long BaseEncoding.decodeLongWithoutArgumentsValidation(char[] chars, int offset)
+     */
+    @Override
+    protected long decodeLongWithoutArgumentsValidation(char[] chars, int offset) {
+        return b.decodeLong(chars, offset);
+    }
+
+    /**
+     * @see long BaseEncoding.decodeLongWithoutArgumentsValidation(CharSequence chars, int offset)
+     */
+    @Override
+    protected long decodeLongWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return b.decodeLong(chars, offset);
+    }
+
+    /**
+     * @see UUID BaseEncoding.decodeUuidWithoutArgumentsValidation(char[] chars, int offset)
+     */
+    @Override
+    protected UUID decodeUuidWithoutArgumentsValidation(char[] chars, int offset) {
+        return b.decodeUuid(chars, offset);
+    }
+
+    /**
+     * @see UUID BaseEncoding.decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset)
+     */
+    @Override
+    protected UUID decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return b.decodeUuid(chars, offset);
+    }
+}
@@ -18,6 +18,8 @@ public final class Base32HexEncoding extends Base32Encoding {
      */
     public static final String DEFAULT_NAME = "Standard Base32 Encoding with Extended Hex Alphabet";
 
+    private Base32HexEncoding unpadded;
+
     /**
      * Initializes a new instance that is a standard Base32 encoding(<a href="http://tools.ietf.org/rfc/rfc4648.txt">RFC 4648</a>) with Extended Hex Alphabet.
      */
@@ -25,4 +27,24 @@ public final class Base32HexEncoding extends Base32Encoding {
         super(STANDARD_ALPHABET.toCharArray(), STANDARD_PADDING, DEFAULT_NAME, false);
     }
 
+    private Base32HexEncoding(boolean paddingRequired) {
+        super(STANDARD_ALPHABET.toCharArray(), STANDARD_PADDING, DEFAULT_NAME + " without Padding", paddingRequired, false);
+    }
+
+    /**
+     * Gets a Base32 encoding with Extended Hex Alphabet, which does not pad the encoded output and accepts the input with or without padding.
+     *
+     * @see Base32Encoding Base32Encoding.withoutPadding()
+     */
+    @Override
+    public Base32HexEncoding withoutPadding() {
+        if (!isPaddingRequired())
+            return this;
+        // created once like Base32Encoding.withoutPadding()
+        Base32HexEncoding encoding = unpadded;
+        if (encoding == null)
+            unpadded = encoding = new Base32HexEncoding(false);
+        return encoding;
+    }
+
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package wallf.basenencodings;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.UUID;
+
 /**
  * Represents a Base64 encoding. <br />
  * Default constructor will create a standard Base64 encoding(RFC 4648).
@@ -18,11 +22,28 @@ public class Base64Encoding extends BaseEncoding {
      * Default Encoding Name.
      */
     public static final String DEFAULT_NAME = "Standard Base64 Encoding";
+    /**
+     * Line Length of MIME(RFC 2045).
+     */
+    public static final int MIME_LINE_LENGTH = 76;
+    /**
+     * Line Length of PEM(RFC 7468).
+     */
+    public static final int PEM_LINE_LENGTH = 64;
+    /**
+     * Line Separator of MIME and PEM.
+     */
+    public static final String CRLF = "\r\n";
 
     private final char[] alphabet;
     private final char padding;
     private final String encodingName;
+    private final int lineLength;
+    private final String lineSeparator;
+    private final boolean paddingRequired;
+    private final boolean ascii;
     private final Base64 b;
+    private Base64Encoding unpadded;
 
     /**
      * Initializes a new instance that is a standard Base64 encoding(<a href="http://tools.ietf.org/rfc/rfc4648.txt">RFC 4648</a>).
@@ -54,7 +75,40 @@ public class Base64Encoding extends BaseEncoding {
         this(alphabet, padding, encodingName, true);
     }
 
+    /**
+     * Initializes a new instance that is a standard Base64 encoding wrapped into lines. Parameters specify the length of lines and the line separator.
+     *
+     * @param lineLength    Maximum number of characters per line, a multiple of 4, or 0 to not wrap the output.
+     * @param lineSeparator Separator written between lines.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public Base64Encoding(int lineLength, String lineSeparator) {
+        this(STANDARD_ALPHABET.toCharArray(), STANDARD_PADDING, "Standard Base64 Encoding with Line Wrapping", lineLength, lineSeparator, true);
+    }
+
+    /**
+     * Initializes a new instance of the Base64Encoding class. Parameters specify the alphabet and the padding character and the name of encoding, and the length of lines and the line separator.
+     *
+     * @param alphabet      Alphabet for current encoding.
+     * @param padding       Padding character for current encoding.
+     * @param encodingName  Name for current encoding.
+     * @param lineLength    Maximum number of characters per line, a multiple of 4, or 0 to not wrap the output.
+     * @param lineSeparator Separator written between lines.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public Base64Encoding(char[] alphabet, char padding, String encodingName, int lineLength, String lineSeparator) {
+        this(alphabet, padding, encodingName, lineLength, lineSeparator, true);
+    }
+
     Base64Encoding(char[] alphabet, char padding, String encodingName, boolean verify) {
+        this(alphabet, padding, encodingName, 0, "", verify);
+    }
+
+    Base64Encoding(char[] alphabet, char padding, String encodingName, int lineLength, String lineSeparator, boolean verify) {
+        this(alphabet, padding, encodingName, lineLength, lineSeparator, true, verify);
+    }
+
+    Base64Encoding(char[] alphabet, char padding, String encodingName, int lineLength, String lineSeparator, boolean paddingRequired, boolean verify) {
         if (verify) {
             if (alphabet == null)
                 throw new IllegalArgumentException("alphabet is null");
@@ -64,11 +118,31 @@ public class Base64Encoding extends BaseEncoding {
                 throw new IllegalArgumentException("size of alphabet is not 64");
             if (ArrayFunctions.isArrayDuplicate(alphabet))
                 throw new IllegalArgumentException("alphabet contains duplicated items");
+            if (lineLength < 0)
+                throw new IllegalArgumentException("lineLength is less than 0");
+            if (lineLength % 4 != 0)
+                throw new IllegalArgumentException("lineLength is not a multiple of 4");
+            if (lineSeparator == null)
+                throw new IllegalArgumentException("lineSeparator is null");
+            if (lineLength != 0) {
+                if (lineSeparator.length() == 0)
+                    throw new IllegalArgumentException("lineSeparator is empty");
+                String symbols = new String(alphabet) + padding;
+                for (int i = 0; i < lineSeparator.length(); i++) {
+                    if (symbols.indexOf(lineSeparator.charAt(i)) >= 0)
+                        throw new IllegalArgumentException("lineSeparator contains characters of the alphabet or the padding");
+                }
+            }
         }
         this.alphabet = alphabet.clone();
         this.padding = padding;
         this.encodingName = encodingName;
-        this.b = new Base64(this.alphabet, this.padding);
+        this.lineLength = lineLength;
+        // the separator is never written if the output is not wrapped
+        this.lineSeparator = lineLength != 0 ? lineSeparator : "";
+        this.paddingRequired = paddingRequired;
+        this.b = EngineCache.getBase64(this.alphabet, this.padding, paddingRequired);
+        this.ascii = b.isAscii() && ArrayFunctions.isAscii(this.lineSeparator.toCharArray());
     }
 
 
@@ -89,11 +163,27 @@ public class Base64Encoding extends BaseEncoding {
     }
 
     /**
-     * Return values is always true for the Base64 Encoding.
+     * Return value is true for the Base64 Encoding, except the encodings returned by withoutPadding().
      */
     @Override
     public boolean isPaddingRequired() {
-        return true;
+        return paddingRequired;
+    }
+
+    /**
+     * Gets a Base64 encoding with the same alphabet and line wrapping as the current encoding, which does not pad the encoded output and accepts the input with or without padding.
+     *
+     * @see BaseEncoding BaseEncoding.withoutPadding()
+     */
+    @Override
+    public Base64Encoding withoutPadding() {
+        if (!paddingRequired)
+            return this;
+        // created on first use, a race creates equal immutable instances and the final fields make any of them safe to share
+        Base64Encoding encoding = unpadded;
+        if (encoding == null)
+            unpadded = encoding = new Base64Encoding(alphabet, padding, encodingName + " without Padding", lineLength, lineSeparator, false, false);
+        return encoding;
     }
 
     /**
@@ -104,6 +194,46 @@ public class Base64Encoding extends BaseEncoding {
         return padding;
     }
 
+    /**
+     * Return value is always 3, because of the 24-bit groups of input are encoded by Base64 Encoding.
+     */
+    @Override
+    public int getBytesPerQuantum() {
+        return 3;
+    }
+
+    /**
+     * Return value is always 4, because of each 24-bit group is encoded into 4 characters by Base64 Encoding.
+     */
+    @Override
+    public int getCharsPerQuantum() {
+        return 4;
+    }
+
+    /**
+     * Gets the maximum number of characters per line of the encoded output, 0 if the output is not wrapped.
+     */
+    @Override
+    public int getLineLength() {
+        return lineLength;
+    }
+
+    /**
+     * Gets the separator written between lines of the encoded output, empty if the output is not wrapped.
+     */
+    @Override
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    /**
+     * Gets a value indicating whether the alphabet, the padding character and the line separator of the current encoding are all ASCII characters.
+     */
+    @Override
+    public boolean isAsciiCompatible() {
+        return ascii;
+    }
+
     /**
      * @see int BaseEncoding.getEncodeCountWithoutArgumentsValidation(int length)
      */
@@ -135,7 +265,7 @@ public class Base64Encoding extends BaseEncoding {
      */
     @Override
     protected int getDecodeCountWithoutArgumentsValidation(char[] chars, int offset, int length) {
-        return b.decodeSize(chars, offset, length, new TypeWrapper<Integer>());
+        return b.decodeSize(chars, offset, length);
     }
 
     /**
@@ -143,9 +273,8 @@ public class Base64Encoding extends BaseEncoding {
      */
     @Override
     protected byte[] decodeWithoutArgumentsValidation(char[] chars, int offset, int length) {
-        TypeWrapper<Integer> paddingNumWrapper = new TypeWrapper<Integer>();
-        byte[] r = new byte[b.decodeSize(chars, offset, length, paddingNumWrapper)];
-        b.decode(chars, offset, length, r, 0, r.length, paddingNumWrapper.getValue());
+        byte[] r = new byte[b.decodeSize(chars, offset, length)];
+        b.decode(chars, offset, length, r, 0, r.length);
         return r;
     }
 
@@ -164,4 +293,250 @@ public class Base64Encoding extends BaseEncoding {
     protected boolean isValidBaseSequenceWithoutArgumentsValidation(char[] chars, int offset, int length) {
         return b.isValidBaseSequence(chars, offset, length);
     }
-}
\ No newline at end of file
+
+    /**
+     * @see byte[] BaseEncoding.encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length)
+     */
+    @Override
+    protected byte[] encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        byte[] r = new byte[b.encodeSize(length)];
+        b.encode(bytes, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut)
+     */
+    @Override
+    protected int encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.decodeSize(ascii, offset, length);
+    }
+
+    /**
+     * @see byte[] BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected byte[] decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        byte[] r = new byte[b.decodeSize(ascii, offset, length)];
+        b.decode(ascii, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.decode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see boolean BaseEncoding.isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected boolean isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.isValidBaseSequence(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut)
+     */
+    @Override
+    protected int encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        return b.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length) {
+        return b.decodeSize(new BufferSequence(chars), offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length) {
+        return b.decodeSize(new BufferSequence(ascii), offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return b.decode(new BufferSequence(charsIn), offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return b.decode(new BufferSequence(asciiIn), offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.decodeSize(chars, offset, length);
+    }
+
+    /**
+     * @see byte[] BaseEncoding.decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected byte[] decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        byte[] r = new byte[b.decodeSize(chars, offset, length)];
+        b.decode(chars, offset, length, r, 0, r.length);
+        return r;
+    }
+
+    /**
+     * @see int BaseEncoding.decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see boolean BaseEncoding.isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected boolean isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.isValidBaseSequence(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.tryDecodeSize(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.tryDecodeSize(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut)
+     */
+    @Override
+    protected int tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return b.tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length) {
+        return b.indexOfInvalid(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return b.indexOfInvalid(chars, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length)
+     */
+    @Override
+    protected int indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return b.indexOfInvalid(ascii, offset, length);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut) {
+        return b.encodeLong(value, charsOut, offsetOut);
+    }
+
+    /**
+     * @see int BaseEncoding.encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut)
+     */
+    @Override
+    protected int encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        return b.encodeUuid(mostSigBits, leastSigBits, charsOut, offsetOut);
+    }
+
+    /**
+     * @see long BaseEncoding.decodeLongWithoutArgumentsValidation(char[] chars, int offset)
+     */
+    @Override
+    protected long decodeLongWithoutArgumentsValidation(char[] chars, int offset) {
+        return b.decodeLong(chars, offset);
+    }
+
+    /**
+     * @see long BaseEncoding.decodeLongWithoutArgumentsValidation(CharSequence chars, int offset)
+     */
+    @Override
+    protected long decodeLongWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return b.decodeLong(chars, offset);
+    }
+
+    /**
+     * @see UUID BaseEncoding.decodeUuidWithoutArgumentsValidation(char[] chars, int offset)
+     */
+    @Override
+    protected UUID decodeUuidWithoutArgumentsValidation(char[] chars, int offset) {
+        return b.decodeUuid(chars, offset);
+    }
+
+    /**
+     * @see UUID BaseEncoding.decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset)
+     */
+    @Override
+    protected UUID decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return b.decodeUuid(chars, offset);
+    }
+}
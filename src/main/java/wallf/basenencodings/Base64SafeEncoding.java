@@ -18,6 +18,8 @@ public class Base64SafeEncoding extends Base64Encoding {
      */
     public static final String DEFAULT_NAME = "Standard Base64 Encoding with URL and Filename Safe Alphabet";
 
+    private Base64SafeEncoding unpadded;
+
     /**
      * Initializes a new instance that is a standard Base64 encoding(<a href="http://tools.ietf.org/rfc/rfc4648.txt">RFC 4648</a>) with URL and Filename Safe Alphabet.
      */
@@ -25,4 +27,24 @@ public class Base64SafeEncoding extends Base64Encoding {
         super(STANDARD_ALPHABET.toCharArray(), STANDARD_PADDING, DEFAULT_NAME, false);
     }
 
+    private Base64SafeEncoding(boolean paddingRequired) {
+        super(STANDARD_ALPHABET.toCharArray(), STANDARD_PADDING, DEFAULT_NAME + " without Padding", 0, "", paddingRequired, false);
+    }
+
+    /**
+     * Gets a Base64 encoding with URL and Filename Safe Alphabet, which does not pad the encoded output and accepts the input with or without padding.
+     *
+     * @see Base64Encoding Base64Encoding.withoutPadding()
+     */
+    @Override
+    public Base64SafeEncoding withoutPadding() {
+        if (!isPaddingRequired())
+            return this;
+        // created once like Base64Encoding.withoutPadding()
+        Base64SafeEncoding encoding = unpadded;
+        if (encoding == null)
+            unpadded = encoding = new Base64SafeEncoding(false);
+        return encoding;
+    }
+
 }
\ No newline at end of file
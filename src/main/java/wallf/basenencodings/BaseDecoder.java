@@ -0,0 +1,242 @@
+package wallf.basenencodings;
+
+import java.util.Arrays;
+
+/**
+ * Represents a stateful decoder of a Base-N encoding, which decodes a set of characters that is supplied in arbitrary parts. <br />
+ * update methods decode the whole quanta and keep the remaining characters for the next call, finish methods decode the kept characters as the last quantum and reset the decoder. <br />
+ * Only the last quantum of the whole set of characters could contain padding, it could be partial if the padding of the encoding is optional. <br />
+ * The line separators of a wrapped encoding are skipped wherever they are. <br />
+ * The decoder could be reused after finish() or reset(), it is not thread-safe.
+ *
+ * @see BaseEncoding#newDecoder()
+ */
+public final class BaseDecoder {
+
+    private final BaseEncoding encoding;
+    private final char[] quantum;
+    private final boolean[] separators;
+    private int quantumLength;
+    private boolean padded;
+
+    BaseDecoder(BaseEncoding encoding) {
+        this.encoding = encoding;
+        this.quantum = new char[encoding.getCharsPerQuantum()];
+        this.separators = encoding.getLineLength() != 0 ? encoding.getSeparatorTable() : null;
+    }
+
+    /**
+     * Gets the encoding of the current decoder.
+     */
+    public BaseEncoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Calculates the maximum number of bytes produced by updating the current decoder with the set of characters specified length. <br />
+     * The actual number is less when the last quantum contains padding.
+     *
+     * @param length The number of characters to update.
+     * @return The maximum number of bytes produced by the update.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int getUpdateCount(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("length is less than 0");
+        return (int) (((long) quantumLength + length) / quantum.length) * encoding.getBytesPerQuantum();
+    }
+
+    /**
+     * Calculates the number of bytes produced by finishing the current decoder.
+     */
+    public int getFinishCount() {
+        // the kept characters are a partial quantum without padding, each byte takes the bits of the characters in full
+        return quantumLength * encoding.getBytesPerQuantum() / quantum.length;
+    }
+
+    /**
+     * Decodes the whole quanta of a set of characters from the specified character array together with the kept characters, the remaining characters are kept for the next call.
+     *
+     * @param chars  The character array containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return A byte array containing the decoded bytes, it could be empty.
+     * @throws IllegalArgumentException Arguments error, or the characters are not a valid part of a base sequence.
+     */
+    public byte[] update(char[] chars, int offset, int length) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (!ArrayFunctions.validationInterval(chars, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
+        byte[] bytes = new byte[getUpdateCount(length)];
+        int lengthOut = updateLinesWithoutArgumentsValidation(chars, null, null, offset, length, bytes, 0);
+        return lengthOut == bytes.length ? bytes : Arrays.copyOf(bytes, lengthOut);
+    }
+
+    /**
+     * Decodes the whole quanta of a set of characters from the specified character array together with the kept characters into the specified byte array,
+     * the remaining characters are kept for the next call.
+     *
+     * @param charsIn   The character array containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes, it must have enough capacity for getUpdateCount(lengthIn) bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException Arguments error, or the characters are not a valid part of a base sequence.
+     */
+    public int update(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of charsIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut, getUpdateCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return updateLinesWithoutArgumentsValidation(charsIn, null, null, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * Decodes the whole quanta of a set of ASCII characters from the specified byte array together with the kept characters into the specified byte array,
+     * the remaining ASCII characters are kept for the next call.
+     *
+     * @param asciiIn   The byte array containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes, it must have enough capacity for getUpdateCount(lengthIn) bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException      Arguments error, or the ASCII characters are not a valid part of a base sequence.
+     * @throws UnsupportedOperationException If the encoding is not ASCII compatible.
+     */
+    public int updateFromAscii(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (asciiIn == null)
+            throw new IllegalArgumentException("asciiIn is null");
+        if (!ArrayFunctions.validationInterval(asciiIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of asciiIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut, getUpdateCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        if (!encoding.isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return updateLinesWithoutArgumentsValidation(null, null, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * Decodes the kept characters as the last quantum and resets the current decoder. <br />
+     * The kept characters are a partial quantum, it is valid only if the padding of the encoding is optional. The decoder is reset even if the decoding fails.
+     *
+     * @return A byte array containing the decoded bytes, it could be empty.
+     * @throws IllegalArgumentException If the kept characters are not a valid last quantum, the whole set of characters is not a valid base sequence.
+     */
+    public byte[] finish() {
+        byte[] bytes = new byte[getFinishCount()];
+        finishWithoutArgumentsValidation(bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Decodes the kept characters as the last quantum into the specified byte array and resets the current decoder. <br />
+     * The kept characters are a partial quantum, it is valid only if the padding of the encoding is optional. The decoder is reset even if the decoding fails.
+     *
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes, it must have enough capacity for getFinishCount() bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException Arguments error, or the kept characters are not a valid last quantum.
+     */
+    public int finish(byte[] bytesOut, int offsetOut) {
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut, getFinishCount()))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return finishWithoutArgumentsValidation(bytesOut, offsetOut);
+    }
+
+    /**
+     * Discards the kept characters, the decoder returns to its initial state.
+     */
+    public void reset() {
+        quantumLength = 0;
+        padded = false;
+    }
+
+    int finishWithoutArgumentsValidation(byte[] bytesOut, int offsetOut) {
+        // the encoding rejects a partial quantum if its padding is required
+        try {
+            return quantumLength == 0 ? 0 : encoding.decodeWithoutArgumentsValidation(quantum, 0, quantumLength, bytesOut, offsetOut);
+        } finally {
+            reset();
+        }
+    }
+
+    int updateLinesWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return separators == null
+                ? updateWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                : updateLenientWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, separators);
+    }
+
+    int updateLenientWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, boolean[] ignorable) {
+        // the runs between the ignorable characters are decoded in place, the quanta split by them are joined by the kept characters
+        int start = offsetOut, bound = offsetIn + lengthIn;
+        while (offsetIn != bound) {
+            int end = BaseEncoding.indexOfIgnorable(charsIn, sequenceIn, asciiIn, offsetIn, bound, ignorable, true);
+            offsetOut += updateWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offsetIn, end - offsetIn, bytesOut, offsetOut);
+            offsetIn = BaseEncoding.indexOfIgnorable(charsIn, sequenceIn, asciiIn, end, bound, ignorable, false);
+        }
+        return offsetOut - start;
+    }
+
+    private int updateWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (lengthIn == 0)
+            return 0;
+        if (padded)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        int quantumSize = quantum.length, start = offsetOut;
+        if (quantumLength != 0) {
+            int n = Math.min(quantumSize - quantumLength, lengthIn);
+            keep(charsIn, sequenceIn, asciiIn, offsetIn, n);
+            offsetIn += n;
+            lengthIn -= n;
+            if (quantumLength != quantumSize)
+                return 0;
+            offsetOut += decode(quantum, null, null, 0, quantumSize, bytesOut, offsetOut);
+            quantumLength = 0;
+            if (padded && lengthIn != 0)
+                throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        }
+        int tail = lengthIn % quantumSize;
+        offsetOut += decode(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn - tail, bytesOut, offsetOut);
+        if (padded && tail != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        keep(charsIn, sequenceIn, asciiIn, offsetIn + lengthIn - tail, tail);
+        return offsetOut - start;
+    }
+
+    private void keep(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn) {
+        if (charsIn != null) {
+            System.arraycopy(charsIn, offsetIn, quantum, quantumLength, lengthIn);
+        } else if (sequenceIn != null) {
+            for (int i = 0; i < lengthIn; i++)
+                quantum[quantumLength + i] = sequenceIn.charAt(offsetIn + i);
+        } else {
+            for (int i = 0; i < lengthIn; i++)
+                quantum[quantumLength + i] = (char) (asciiIn[offsetIn + i] & 0xFF);
+        }
+        quantumLength += lengthIn;
+    }
+
+    private int decode(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (lengthIn == 0)
+            return 0;
+        int lengthOut = charsIn != null
+                ? encoding.decodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                : sequenceIn != null
+                ? encoding.decodeWithoutArgumentsValidation(sequenceIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                : encoding.decodeFromAsciiWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        padded = lengthOut != lengthIn / quantum.length * encoding.getBytesPerQuantum();
+        return lengthOut;
+    }
+
+}
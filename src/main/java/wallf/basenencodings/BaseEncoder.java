@@ -0,0 +1,208 @@
+package wallf.basenencodings;
+
+/**
+ * Represents a stateful encoder of a Base-N encoding, which encodes a sequence of bytes that is supplied in arbitrary parts. <br />
+ * update methods encode the whole quanta and keep the remaining bytes for the next call, finish methods encode the kept bytes with padding and reset the encoder. <br />
+ * The encoder could be reused after finish() or reset(), it is not thread-safe.
+ *
+ * @see BaseEncoding#newEncoder()
+ */
+public final class BaseEncoder {
+
+    private final BaseEncoding encoding;
+    private final byte[] quantum;
+    private int quantumLength;
+    private int column;
+
+    BaseEncoder(BaseEncoding encoding) {
+        this.encoding = encoding;
+        this.quantum = new byte[encoding.getBytesPerQuantum()];
+    }
+
+    /**
+     * Gets the encoding of the current encoder.
+     */
+    public BaseEncoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Calculates the number of characters produced by updating the current encoder with the sequence of bytes specified length.
+     *
+     * @param length The number of bytes to update.
+     * @return The number of characters produced by the update.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int getUpdateCount(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("length is less than 0");
+        int quanta = (int) (((long) quantumLength + length) / quantum.length);
+        if (encoding.getLineLength() == 0)
+            return quanta * encoding.getCharsPerQuantum();
+        return encoding.getLinesEncodeCount(quanta * quantum.length, column);
+    }
+
+    /**
+     * Calculates the number of characters produced by finishing the current encoder.
+     */
+    public int getFinishCount() {
+        return encoding.getLinesEncodeCount(quantumLength, column);
+    }
+
+    /**
+     * Encodes the whole quanta of a sequence of bytes from the specified byte array together with the kept bytes, the remaining bytes are kept for the next call.
+     *
+     * @param bytes  The byte array containing the sequence of bytes to encode.
+     * @param offset The index of the first byte to encode.
+     * @param length The number of bytes to encode.
+     * @return A character array containing the encoded characters, it could be empty.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public char[] update(byte[] bytes, int offset, int length) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!ArrayFunctions.validationInterval(bytes, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        char[] chars = new char[getUpdateCount(length)];
+        updateWithoutArgumentsValidation(bytes, offset, length, chars, 0, null);
+        return chars;
+    }
+
+    /**
+     * Encodes the whole quanta of a sequence of bytes from the specified byte array together with the kept bytes into the specified character array,
+     * the remaining bytes are kept for the next call.
+     *
+     * @param bytesIn   The byte array containing the sequence of bytes to encode.
+     * @param offsetIn  The index of the first byte to encode.
+     * @param lengthIn  The number of bytes to encode.
+     * @param charsOut  The character array to contain the resulting set of characters, it must have enough capacity for getUpdateCount(lengthIn) characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int update(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        if (bytesIn == null)
+            throw new IllegalArgumentException("bytesIn is null");
+        if (!ArrayFunctions.validationInterval(bytesIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of bytesIn");
+        if (charsOut == null)
+            throw new IllegalArgumentException("charsOut is null");
+        if (!ArrayFunctions.validationInterval(charsOut, offsetOut, getUpdateCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return updateWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, null);
+    }
+
+    /**
+     * Encodes the whole quanta of a sequence of bytes from the specified byte array together with the kept bytes into the specified byte array as ASCII characters,
+     * the remaining bytes are kept for the next call.
+     *
+     * @param bytesIn   The byte array containing the sequence of bytes to encode.
+     * @param offsetIn  The index of the first byte to encode.
+     * @param lengthIn  The number of bytes to encode.
+     * @param asciiOut  The byte array to contain the resulting set of ASCII characters, it must have enough capacity for getUpdateCount(lengthIn) ASCII characters.
+     * @param offsetOut The index at which to start writing the resulting set of ASCII characters.
+     * @return The actual number of ASCII characters written into asciiOut.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the encoding is not ASCII compatible.
+     */
+    public int updateToAscii(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        if (bytesIn == null)
+            throw new IllegalArgumentException("bytesIn is null");
+        if (!ArrayFunctions.validationInterval(bytesIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of bytesIn");
+        if (asciiOut == null)
+            throw new IllegalArgumentException("asciiOut is null");
+        if (!ArrayFunctions.validationInterval(asciiOut, offsetOut, getUpdateCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        if (!encoding.isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return updateWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, null, offsetOut, asciiOut);
+    }
+
+    /**
+     * Encodes the kept bytes as the last quantum and resets the current encoder.
+     *
+     * @return A character array containing the encoded characters, it could be empty.
+     */
+    public char[] finish() {
+        char[] chars = new char[getFinishCount()];
+        encode(quantum, 0, quantumLength, chars, 0, null);
+        reset();
+        return chars;
+    }
+
+    /**
+     * Encodes the kept bytes as the last quantum into the specified character array and resets the current encoder.
+     *
+     * @param charsOut  The character array to contain the resulting set of characters, it must have enough capacity for getFinishCount() characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int finish(char[] charsOut, int offsetOut) {
+        if (charsOut == null)
+            throw new IllegalArgumentException("charsOut is null");
+        if (!ArrayFunctions.validationInterval(charsOut, offsetOut, getFinishCount()))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        int lengthOut = encode(quantum, 0, quantumLength, charsOut, offsetOut, null);
+        reset();
+        return lengthOut;
+    }
+
+    /**
+     * Encodes the kept bytes as the last quantum into the specified byte array as ASCII characters and resets the current encoder.
+     *
+     * @param asciiOut  The byte array to contain the resulting set of ASCII characters, it must have enough capacity for getFinishCount() ASCII characters.
+     * @param offsetOut The index at which to start writing the resulting set of ASCII characters.
+     * @return The actual number of ASCII characters written into asciiOut.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the encoding is not ASCII compatible.
+     */
+    public int finishToAscii(byte[] asciiOut, int offsetOut) {
+        if (asciiOut == null)
+            throw new IllegalArgumentException("asciiOut is null");
+        if (!ArrayFunctions.validationInterval(asciiOut, offsetOut, getFinishCount()))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        if (!encoding.isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        int lengthOut = encode(quantum, 0, quantumLength, null, offsetOut, asciiOut);
+        reset();
+        return lengthOut;
+    }
+
+    /**
+     * Discards the kept bytes, the encoder returns to its initial state.
+     */
+    public void reset() {
+        quantumLength = 0;
+        column = 0;
+    }
+
+    private int updateWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, byte[] asciiOut) {
+        int quantumSize = quantum.length, start = offsetOut;
+        if (quantumLength != 0) {
+            int n = Math.min(quantumSize - quantumLength, lengthIn);
+            System.arraycopy(bytesIn, offsetIn, quantum, quantumLength, n);
+            quantumLength += n;
+            offsetIn += n;
+            lengthIn -= n;
+            if (quantumLength != quantumSize)
+                return 0;
+            offsetOut += encode(quantum, 0, quantumSize, charsOut, offsetOut, asciiOut);
+            quantumLength = 0;
+        }
+        int tail = lengthIn % quantumSize;
+        offsetOut += encode(bytesIn, offsetIn, lengthIn - tail, charsOut, offsetOut, asciiOut);
+        System.arraycopy(bytesIn, offsetIn + lengthIn - tail, quantum, 0, tail);
+        quantumLength = tail;
+        return offsetOut - start;
+    }
+
+    private int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, byte[] asciiOut) {
+        // the lines continue across the calls, the column is the number of characters on the current line
+        int lengthOut = encoding.encodeLinesWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, charsOut, asciiOut, offsetOut, column);
+        column = encoding.getLineColumn(column, lengthIn);
+        return lengthOut;
+    }
+
+}
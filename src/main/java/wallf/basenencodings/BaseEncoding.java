@@ -1,12 +1,72 @@
 package wallf.basenencodings;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Represents a Base-N data encoding. <br />
  * Defines the general properties and methods of BaseEncoding. <br />
- * Provides easy access to standard encodings of <a href="http://tools.ietf.org/rfc/rfc4648.txt">RFC 4648</a>.
+ * Provides easy access to standard encodings of <a href="http://tools.ietf.org/rfc/rfc4648.txt">RFC 4648</a>. <br />
+ * The encodings are immutable and thread-safe, the standard encodings are shared instances.
  */
 public abstract class BaseEncoding {
 
+    private static final int FILE_WINDOW_QUANTA = 1 << 18;
+    private static final int PARALLEL_CHUNK_QUANTA = 1 << 16;
+    private static final int APPEND_BLOCK_SIZE = 1 << 10;
+
+    private static final ThreadLocal<char[]> APPEND_BLOCK = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[APPEND_BLOCK_SIZE];
+        }
+    };
+
+    // the defaults derived from the abstract properties are computed on first use, the properties of a derived class are not set yet in the constructor,
+    // the race is benign because every thread computes the same value
+    private int bitsPerCharacter;
+    private int asciiCompatible;
+    // the tables are built on first use as well, the final fields of IgnorableTable make a racy publication safe
+    private IgnorableTable separatorTable;
+    private IgnorableTable ignorableTable;
+
+    private static final class StandardEncodings {
+        static final BaseEncoding BASE16 = new Base16Encoding();
+        static final BaseEncoding BASE32 = new Base32Encoding();
+        static final BaseEncoding BASE32_HEX = new Base32HexEncoding();
+        static final BaseEncoding BASE64 = new Base64Encoding();
+        static final BaseEncoding BASE64_SAFE = new Base64SafeEncoding();
+        static final BaseEncoding BASE64_MIME = new Base64Encoding(Base64Encoding.STANDARD_ALPHABET.toCharArray(), Base64Encoding.STANDARD_PADDING,
+                "Base64 Encoding for MIME", Base64Encoding.MIME_LINE_LENGTH, Base64Encoding.CRLF, false);
+        static final BaseEncoding BASE64_PEM = new Base64Encoding(Base64Encoding.STANDARD_ALPHABET.toCharArray(), Base64Encoding.STANDARD_PADDING,
+                "Base64 Encoding for PEM", Base64Encoding.PEM_LINE_LENGTH, Base64Encoding.CRLF, false);
+    }
+
+    private static final class IgnorableTable {
+        final String ignorable;
+        final boolean[] table;
+
+        IgnorableTable(String ignorable, boolean[] table) {
+            this.ignorable = ignorable;
+            this.table = table;
+        }
+    }
+
 
     /*
      *
@@ -15,48 +75,66 @@ public abstract class BaseEncoding {
      */
 
     /**
-     * Gets a standard encoding for the Base16 Data Encoding(RFC 4648).
+     * Gets the shared standard encoding for the Base16 Data Encoding(RFC 4648).
      *
      * @see Base16Encoding
      */
     public static BaseEncoding getBase16() {
-        return new Base16Encoding();
+        return StandardEncodings.BASE16;
     }
 
     /**
-     * Gets a standard encoding for the Base32Encoding Data Encoding(RFC 4648).
+     * Gets the shared standard encoding for the Base32Encoding Data Encoding(RFC 4648).
      *
      * @see Base32Encoding
      */
     public static BaseEncoding getBase32() {
-        return new Base32Encoding();
+        return StandardEncodings.BASE32;
     }
 
     /**
-     * Gets a standard encoding for the Base32Encoding Data Encoding(RFC 4648) with Extended Hex Alphabet.
+     * Gets the shared standard encoding for the Base32Encoding Data Encoding(RFC 4648) with Extended Hex Alphabet.
      *
      * @see Base32HexEncoding
      */
     public static BaseEncoding getBase32Hex() {
-        return new Base32HexEncoding();
+        return StandardEncodings.BASE32_HEX;
     }
 
     /**
-     * Gets a standard encoding for the Base64 Data Encoding(RFC 4648).
+     * Gets the shared standard encoding for the Base64 Data Encoding(RFC 4648).
      *
      * @see Base64Encoding
      */
     public static BaseEncoding getBase64() {
-        return new Base64Encoding();
+        return StandardEncodings.BASE64;
     }
 
     /**
-     * Gets a standard encoding for the Base64 Data Encoding(RFC 4648) with URL and Filename Safe Alphabet.
+     * Gets the shared standard encoding for the Base64 Data Encoding(RFC 4648) with URL and Filename Safe Alphabet.
      *
      * @see Base64SafeEncoding
      */
     public static BaseEncoding getBase64Safe() {
-        return new Base64SafeEncoding();
+        return StandardEncodings.BASE64_SAFE;
+    }
+
+    /**
+     * Gets the shared Base64 encoding for MIME(RFC 2045), the output is wrapped into lines of 76 characters separated by CRLF.
+     *
+     * @see Base64Encoding#MIME_LINE_LENGTH
+     */
+    public static BaseEncoding getBase64Mime() {
+        return StandardEncodings.BASE64_MIME;
+    }
+
+    /**
+     * Gets the shared Base64 encoding for PEM(RFC 7468), the output is wrapped into lines of 64 characters separated by CRLF.
+     *
+     * @see Base64Encoding#PEM_LINE_LENGTH
+     */
+    public static BaseEncoding getBase64Pem() {
+        return StandardEncodings.BASE64_PEM;
     }
 
 
@@ -87,6 +165,382 @@ public abstract class BaseEncoding {
     public abstract char getPaddingCharacter();
 
 
+    /*
+     *
+     * virtual(could be overridden), quantum properties
+     *
+     */
+
+    /**
+     * When overridden in a derived class, gets the number of bytes in an encoding quantum of the current encoding. <br />
+     * Sequences of whole quanta can be encoded independently and concatenated. <br />
+     * The default is derived from the size of the alphabet.
+     */
+    public int getBytesPerQuantum() {
+        // a quantum is the least common multiple of 8 and the bits per character
+        int bits = getBitsPerCharacter();
+        return bits / Math.min(Integer.lowestOneBit(bits), 8);
+    }
+
+    /**
+     * When overridden in a derived class, gets the number of characters produced by encoding a quantum of the current encoding. <br />
+     * The default is derived from the size of the alphabet.
+     */
+    public int getCharsPerQuantum() {
+        return 8 / Math.min(Integer.lowestOneBit(getBitsPerCharacter()), 8);
+    }
+
+    private int getBitsPerCharacter() {
+        int bits = bitsPerCharacter;
+        if (bits == 0)
+            bitsPerCharacter = bits = Integer.numberOfTrailingZeros(getAlphabet().length);
+        return bits;
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), padding
+     *
+     */
+
+    /**
+     * When overridden in a derived class, gets an encoding which is the same as the current encoding except that the encoded output is not padded. <br />
+     * The last quantum of the output is written with the characters carrying its bits only, and the padding is optional in the input of the decode methods, padded and unpadded sequences are both accepted. <br />
+     * Returns the current encoding if its padding is not required.
+     *
+     * @return An encoding without padding.
+     * @throws UnsupportedOperationException If the current encoding does not support the encoding without padding.
+     */
+    public BaseEncoding withoutPadding() {
+        if (isPaddingRequired())
+            throw new UnsupportedOperationException("current encoding does not support the encoding without padding");
+        return this;
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), line wrapping
+     *
+     */
+
+    /**
+     * When overridden in a derived class, gets the number of characters in a line of the encoded output, 0 if the output is not wrapped into lines. <br />
+     * The line length is a multiple of getCharsPerQuantum(), the lines are separated by getLineSeparator() and the last line is not terminated. <br />
+     * The fixed-width values are never wrapped. The separators are skipped wherever they are by fromBaseString, the decode methods returning or writing byte arrays,
+     * the NIO buffer, batch and parallel decode methods, the validation methods, the decoders, the decoding streams and decodeFile. getDecodeCount and tryDecode take unwrapped sequences.
+     */
+    public int getLineLength() {
+        return 0;
+    }
+
+    /**
+     * When overridden in a derived class, gets the separator written between the lines of the encoded output, it is empty if the output is not wrapped into lines.
+     */
+    public String getLineSeparator() {
+        return "";
+    }
+
+    int getLinesEncodeCount(int length, int column) {
+        // column is the number of characters in the current line, a separator is written before the next character when the line is full
+        int count = getEncodeCountWithoutArgumentsValidation(length), lineLength = getLineLength();
+        if (lineLength == 0 || count == 0)
+            return count;
+        return count + (column + count - 1) / lineLength * getLineSeparator().length();
+    }
+
+    int getLineColumn(int column, int length) {
+        int count = getEncodeCountWithoutArgumentsValidation(length), lineLength = getLineLength();
+        if (lineLength == 0 || count == 0)
+            return column;
+        return (column + count - 1) % lineLength + 1;
+    }
+
+    int encodeLinesWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, byte[] asciiOut, int offsetOut, int column) {
+        int lineLength = getLineLength();
+        if (lineLength == 0) {
+            return asciiOut != null
+                    ? encodeToAsciiWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut)
+                    : encodeWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+        }
+        int lengthOut = getLinesEncodeCount(lengthIn, column);
+        if ((asciiOut != null ? asciiOut.length : charsOut.length) - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        String separator = getLineSeparator();
+        int quantumIn = getBytesPerQuantum(), quantumOut = getCharsPerQuantum();
+        for (int bound = offsetIn + lengthIn; offsetIn != bound; ) {
+            if (column + quantumOut > lineLength) {
+                for (int i = 0; i < separator.length(); i++, offsetOut++) {
+                    if (asciiOut != null)
+                        asciiOut[offsetOut] = (byte) separator.charAt(i);
+                    else
+                        charsOut[offsetOut] = separator.charAt(i);
+                }
+                column = 0;
+            }
+            int n = Math.min((lineLength - column) / quantumOut * quantumIn, bound - offsetIn);
+            int m = asciiOut != null
+                    ? encodeToAsciiWithoutArgumentsValidation(bytesIn, offsetIn, n, asciiOut, offsetOut)
+                    : encodeWithoutArgumentsValidation(bytesIn, offsetIn, n, charsOut, offsetOut);
+            offsetIn += n;
+            offsetOut += m;
+            column += m;
+        }
+        return lengthOut;
+    }
+
+    private int encodeLinesWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, ByteBuffer asciiOut, int offsetOut, int column) {
+        int lineLength = getLineLength();
+        if (lineLength == 0) {
+            return asciiOut != null
+                    ? encodeToAsciiWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut)
+                    : encodeWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+        }
+        String separator = getLineSeparator();
+        int quantumIn = getBytesPerQuantum(), quantumOut = getCharsPerQuantum(), start = offsetOut;
+        for (int bound = offsetIn + lengthIn; offsetIn != bound; ) {
+            if (column + quantumOut > lineLength) {
+                for (int i = 0; i < separator.length(); i++, offsetOut++) {
+                    if (asciiOut != null)
+                        asciiOut.put(offsetOut, (byte) separator.charAt(i));
+                    else
+                        charsOut.put(offsetOut, separator.charAt(i));
+                }
+                column = 0;
+            }
+            int n = Math.min((lineLength - column) / quantumOut * quantumIn, bound - offsetIn);
+            int m = asciiOut != null
+                    ? encodeToAsciiWithoutArgumentsValidation(bytesIn, offsetIn, n, asciiOut, offsetOut)
+                    : encodeWithoutArgumentsValidation(bytesIn, offsetIn, n, charsOut, offsetOut);
+            offsetIn += n;
+            offsetOut += m;
+            column += m;
+        }
+        return offsetOut - start;
+    }
+
+    private char[] encodeLinesWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        if (getLineLength() == 0)
+            return encodeWithoutArgumentsValidation(bytes, offset, length);
+        char[] r = new char[getLinesEncodeCount(length, 0)];
+        encodeLinesWithoutArgumentsValidation(bytes, offset, length, r, null, 0, 0);
+        return r;
+    }
+
+    private byte[] encodeLinesToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        if (getLineLength() == 0)
+            return encodeToAsciiWithoutArgumentsValidation(bytes, offset, length);
+        byte[] r = new byte[getLinesEncodeCount(length, 0)];
+        encodeLinesWithoutArgumentsValidation(bytes, offset, length, null, r, 0, 0);
+        return r;
+    }
+
+    private int getLinesBlockLength(int capacity) {
+        // the number of bytes whose encoded characters fit the capacity at any column, a whole number of quanta
+        int quantumIn = getBytesPerQuantum(), quantumOut = getCharsPerQuantum(), lineLength = getLineLength();
+        if (lineLength == 0)
+            return capacity / quantumOut * quantumIn;
+        int separator = getLineSeparator().length();
+        return (int) ((long) Math.max(capacity - separator, 0) * lineLength / (lineLength + separator) / quantumOut) * quantumIn;
+    }
+
+    private int getBytesPerLine() {
+        int lineLength = getLineLength();
+        return lineLength == 0 ? getBytesPerQuantum() : lineLength / getCharsPerQuantum() * getBytesPerQuantum();
+    }
+
+    private byte[] decodeLinesWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int length) {
+        if (getLineLength() == 0) {
+            return charsIn != null
+                    ? decodeWithoutArgumentsValidation(charsIn, offset, length)
+                    : sequenceIn != null
+                    ? decodeWithoutArgumentsValidation(sequenceIn, offset, length)
+                    : decodeFromAsciiWithoutArgumentsValidation(asciiIn, offset, length);
+        }
+        boolean[] separators = getSeparatorTable();
+        int count = tryGetLinesDecodeCount(charsIn, sequenceIn, asciiIn, offset, length, getSignificantCount(charsIn, sequenceIn, asciiIn, offset, length, separators), separators);
+        byte[] bytes = count < 0 ? null : new byte[count];
+        if (bytes == null || tryDecodeLinesWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offset, length, bytes, 0, separators) < 0)
+            throw newInvalidSequenceException(indexOfInvalidLinesCharacter(charsIn, sequenceIn, asciiIn, offset, length, separators));
+        return bytes;
+    }
+
+    private int decodeLinesWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (getLineLength() == 0) {
+            return charsIn != null
+                    ? decodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                    : sequenceIn != null
+                    ? decodeWithoutArgumentsValidation(sequenceIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                    : decodeFromAsciiWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        }
+        // the separators make the result shorter than the lenient count, the capacity is checked against the actual result
+        boolean[] separators = getSeparatorTable();
+        int count = bytesOut.length - offsetOut >= getLenientDecodeCount(lengthIn) ? 0
+                : tryGetLinesDecodeCount(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, getSignificantCount(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, separators), separators);
+        if (count < 0)
+            throw newInvalidSequenceException(indexOfInvalidLinesCharacter(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, separators));
+        if (bytesOut.length - offsetOut < count)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        int lengthOut = tryDecodeLinesWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, separators);
+        if (lengthOut < 0)
+            throw newInvalidSequenceException(indexOfInvalidLinesCharacter(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, separators));
+        return lengthOut;
+    }
+
+    private boolean isValidLinesWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int length) {
+        if (getLineLength() == 0) {
+            return charsIn != null
+                    ? isValidBaseSequenceWithoutArgumentsValidation(charsIn, offset, length)
+                    : sequenceIn != null
+                    ? isValidBaseSequenceWithoutArgumentsValidation(sequenceIn, offset, length)
+                    : isValidAsciiSequenceWithoutArgumentsValidation(asciiIn, offset, length);
+        }
+        return tryDecodeLinesWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offset, length, null, 0, getSeparatorTable()) >= 0;
+    }
+
+    private static int getSignificantCount(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int length, boolean[] ignorable) {
+        // the number of the characters which are not ignorable, counted run by run
+        int count = 0;
+        for (int i = offset, bound = offset + length; i != bound; ) {
+            int end = indexOfIgnorable(charsIn, sequenceIn, asciiIn, i, bound, ignorable, true);
+            count += end - i;
+            i = indexOfIgnorable(charsIn, sequenceIn, asciiIn, end, bound, ignorable, false);
+        }
+        return count;
+    }
+
+    private static int indexOfSignificant(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int bound, int count, boolean[] ignorable) {
+        // the index after the count-th character which is not ignorable
+        while (count != 0) {
+            offset = indexOfIgnorable(charsIn, sequenceIn, asciiIn, offset, bound, ignorable, false);
+            int end = indexOfIgnorable(charsIn, sequenceIn, asciiIn, offset, bound, ignorable, true);
+            if (end - offset >= count)
+                return offset + count;
+            count -= end - offset;
+            offset = end;
+        }
+        return offset;
+    }
+
+    private int tryGetLinesDecodeCount(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int length, int count, boolean[] ignorable) {
+        // count is the number of the significant characters, the size depends on it and the padding of the last quantum, which is copied without the separators
+        int quantumIn = getCharsPerQuantum(), tail = count % quantumIn == 0 ? Math.min(count, quantumIn) : count % quantumIn;
+        char[] quantum = new char[tail];
+        for (int i = offset + length - 1, n = tail; n != 0; i--) {
+            char c = charAt(charsIn, sequenceIn, asciiIn, i);
+            if (!isIgnorable(c, ignorable))
+                quantum[--n] = c;
+        }
+        int lengthOut = tryGetDecodeCountWithoutArgumentsValidation(CharBuffer.wrap(quantum), 0, tail);
+        return lengthOut < 0 ? -1 : (count - tail) / quantumIn * getBytesPerQuantum() + lengthOut;
+    }
+
+    int tryDecodeLinesWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, boolean[] ignorable) {
+        // the runs between the ignorable characters are decoded in place, a quantum split by them is joined in a copy, returns -1 if the set is invalid,
+        // a null bytesOut validates the set only
+        int quantumIn = getCharsPerQuantum(), quantumOut = getBytesPerQuantum(), start = offsetOut, bound = offsetIn + lengthIn, kept = 0;
+        char[] quantum = null;
+        boolean padded = false;
+        while (offsetIn != bound) {
+            int end = indexOfIgnorable(charsIn, sequenceIn, asciiIn, offsetIn, bound, ignorable, true);
+            if (padded && offsetIn != end)
+                return -1;
+            if (kept != 0) {
+                int n = Math.min(quantumIn - kept, end - offsetIn);
+                copy(charsIn, sequenceIn, asciiIn, offsetIn, n, quantum, kept);
+                offsetIn += n;
+                kept += n;
+                if (kept == quantumIn) {
+                    int lengthOut = tryDecodeRun(quantum, null, null, 0, quantumIn, bytesOut, offsetOut);
+                    if (lengthOut < 0)
+                        return -1;
+                    padded = bytesOut != null ? lengthOut != quantumOut : quantum[quantumIn - 1] == getPaddingCharacter();
+                    offsetOut += lengthOut;
+                    kept = 0;
+                }
+            }
+            int whole = (end - offsetIn) / quantumIn * quantumIn;
+            if (whole != 0) {
+                if (padded)
+                    return -1;
+                int lengthOut = tryDecodeRun(charsIn, sequenceIn, asciiIn, offsetIn, whole, bytesOut, offsetOut);
+                if (lengthOut < 0)
+                    return -1;
+                padded = bytesOut != null ? lengthOut != whole / quantumIn * quantumOut : charAt(charsIn, sequenceIn, asciiIn, offsetIn + whole - 1) == getPaddingCharacter();
+                offsetOut += lengthOut;
+                offsetIn += whole;
+            }
+            if (offsetIn != end) {
+                if (padded)
+                    return -1;
+                if (quantum == null)
+                    quantum = new char[quantumIn];
+                copy(charsIn, sequenceIn, asciiIn, offsetIn, end - offsetIn, quantum, 0);
+                kept = end - offsetIn;
+            }
+            offsetIn = indexOfIgnorable(charsIn, sequenceIn, asciiIn, end, bound, ignorable, false);
+        }
+        if (kept != 0) {
+            // the last quantum is partial, it is valid only if the padding is optional
+            int lengthOut = tryDecodeRun(quantum, null, null, 0, kept, bytesOut, offsetOut);
+            if (lengthOut < 0)
+                return -1;
+            offsetOut += lengthOut;
+        }
+        return offsetOut - start;
+    }
+
+    private int tryDecodeRun(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        // a valid run ends with the padding if it has any, that is enough for the validation, which writes no bytes
+        if (bytesOut == null) {
+            boolean valid = charsIn != null
+                    ? isValidBaseSequenceWithoutArgumentsValidation(charsIn, offsetIn, lengthIn)
+                    : sequenceIn != null
+                    ? isValidBaseSequenceWithoutArgumentsValidation(sequenceIn, offsetIn, lengthIn)
+                    : isValidAsciiSequenceWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn);
+            return valid ? 0 : -1;
+        }
+        return charsIn != null
+                ? tryDecodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                : sequenceIn != null
+                ? tryDecodeWithoutArgumentsValidation(sequenceIn, offsetIn, lengthIn, bytesOut, offsetOut)
+                : tryDecodeFromAsciiWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    private static char charAt(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int index) {
+        return charsIn != null ? charsIn[index] : sequenceIn != null ? sequenceIn.charAt(index) : (char) (asciiIn[index] & 0xFF);
+    }
+
+    private static void copy(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        if (charsIn != null) {
+            System.arraycopy(charsIn, offsetIn, charsOut, offsetOut, lengthIn);
+        } else if (sequenceIn != null) {
+            for (int i = 0; i < lengthIn; i++)
+                charsOut[offsetOut + i] = sequenceIn.charAt(offsetIn + i);
+        } else {
+            for (int i = 0; i < lengthIn; i++)
+                charsOut[offsetOut + i] = (char) (asciiIn[offsetIn + i] & 0xFF);
+        }
+    }
+
+    private int indexOfInvalidLinesCharacter(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int length, boolean[] ignorable) {
+        // only on the error path, the index found in a copy without the ignorable characters is mapped back to the original
+        char[] chars = new char[getSignificantCount(charsIn, sequenceIn, asciiIn, offset, length, ignorable)];
+        for (int i = offset, n = 0; n != chars.length; i++) {
+            char c = charAt(charsIn, sequenceIn, asciiIn, i);
+            if (!isIgnorable(c, ignorable))
+                chars[n++] = c;
+        }
+        int index = indexOfInvalidCharacterWithoutArgumentsValidation(chars, 0, chars.length);
+        for (int i = offset, bound = offset + length; i != bound; i++) {
+            if (!isIgnorable(charAt(charsIn, sequenceIn, asciiIn, i), ignorable) && index-- == 0)
+                return i;
+        }
+        return offset + length;
+    }
+
+
     /*
      *
      * virtual(could be overridden), easy accessibility
@@ -103,7 +557,7 @@ public abstract class BaseEncoding {
     public String toBaseString(byte[] bytes) {
         if (bytes == null)
             throw new IllegalArgumentException("bytes is null");
-        return new String(encodeWithoutArgumentsValidation(bytes, 0, bytes.length));
+        return toBaseStringWithoutArgumentsValidation(bytes, 0, bytes.length);
     }
 
     /**
@@ -120,7 +574,7 @@ public abstract class BaseEncoding {
             throw new IllegalArgumentException("bytes is null");
         if (!ArrayFunctions.validationInterval(bytes, offset, length))
             throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
-        return new String(encodeWithoutArgumentsValidation(bytes, offset, length));
+        return toBaseStringWithoutArgumentsValidation(bytes, offset, length);
     }
 
     /**
@@ -133,12 +587,12 @@ public abstract class BaseEncoding {
     public byte[] fromBaseString(String s) {
         if (s == null)
             throw new IllegalArgumentException("s is null");
-        return decodeWithoutArgumentsValidation(s.toCharArray(), 0, s.length());
+        return decodeLinesWithoutArgumentsValidation(null, s, null, 0, s.length());
     }
 
     /**
      * When overridden in a derived class, converts all the characters in the specified string to its equivalent binary data representation that is decoded with base-n string by current encoding. <br />
-     * Safety version of fromBaseString(String), it ignores the execution of possible exceptions.
+     * Safety version of fromBaseString(String), no exception is thrown or caught for the invalid strings.
      *
      * @param s The string containing the characters to convert.
      * @return Returns data as byte[] if converted success, otherwise return null.
@@ -148,11 +602,26 @@ public abstract class BaseEncoding {
     public byte[] tryFromBaseString(String s) {
         if (s == null)
             throw new IllegalArgumentException("s is null");
-        try {
-            return decodeWithoutArgumentsValidation(s.toCharArray(), 0, s.length());
-        } catch (RuntimeException e) {
-            return null;
+        if (getLineLength() != 0) {
+            boolean[] separators = getSeparatorTable();
+            int lengthOut = tryGetLinesDecodeCount(null, s, null, 0, s.length(), getSignificantCount(null, s, null, 0, s.length(), separators), separators);
+            if (lengthOut < 0)
+                return null;
+            byte[] r = new byte[lengthOut];
+            return tryDecodeLinesWithoutArgumentsValidation(null, s, null, 0, s.length(), r, 0, separators) < 0 ? null : r;
         }
+        int lengthOut = tryGetDecodeCountWithoutArgumentsValidation(s, 0, s.length());
+        if (lengthOut < 0)
+            return null;
+        byte[] r = new byte[lengthOut];
+        return tryDecodeWithoutArgumentsValidation(s, 0, s.length(), r, 0) < 0 ? null : r;
+    }
+
+    private String toBaseStringWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        if (!isAsciiCompatible())
+            return new String(encodeLinesWithoutArgumentsValidation(bytes, offset, length));
+        // the only copy is made by the String constructor, it keeps one byte per character on compact strings(Java 9+)
+        return PlatformFunctions.newAsciiString(encodeLinesToAsciiWithoutArgumentsValidation(bytes, offset, length));
     }
 
 
@@ -172,7 +641,7 @@ public abstract class BaseEncoding {
     public int getEncodeCount(int length) {
         if (length < 0)
             throw new IllegalArgumentException("length is less than 0");
-        return getEncodeCountWithoutArgumentsValidation(length);
+        return getLinesEncodeCount(length, 0);
     }
 
     /**
@@ -185,7 +654,7 @@ public abstract class BaseEncoding {
     public char[] encode(byte[] bytes) {
         if (bytes == null)
             throw new IllegalArgumentException("bytes is null");
-        return encodeWithoutArgumentsValidation(bytes, 0, bytes.length);
+        return encodeLinesWithoutArgumentsValidation(bytes, 0, bytes.length);
     }
 
     /**
@@ -202,7 +671,7 @@ public abstract class BaseEncoding {
             throw new IllegalArgumentException("bytes is null");
         if (!ArrayFunctions.validationInterval(bytes, offset, length))
             throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
-        return encodeWithoutArgumentsValidation(bytes, offset, length);
+        return encodeLinesWithoutArgumentsValidation(bytes, offset, length);
     }
 
     /**
@@ -225,7 +694,96 @@ public abstract class BaseEncoding {
             throw new NullPointerException("charsOut is null");
         if (!ArrayFunctions.validationInterval(charsOut, offsetOut))
             throw new IllegalArgumentException("offsetOut is not an index of charsOut");
-        return encodeWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+        return encodeLinesWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, charsOut, null, offsetOut, 0);
+    }
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array and appends the resulting set of characters to the specified StringBuilder. <br />
+     * The capacity of the StringBuilder is ensured once, the characters are appended in blocks without intermediate arrays or strings.
+     *
+     * @param bytes  The byte array containing the sequence of bytes to encode.
+     * @param offset The index of the first byte to encode.
+     * @param length The number of bytes to encode.
+     * @param sb     The StringBuilder to append the resulting set of characters to.
+     * @return The number of characters appended.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int encodeTo(byte[] bytes, int offset, int length, StringBuilder sb) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!ArrayFunctions.validationInterval(bytes, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        if (sb == null)
+            throw new IllegalArgumentException("sb is null");
+        int lengthOut = getLinesEncodeCount(length, 0);
+        sb.ensureCapacity(sb.length() + lengthOut);
+        char[] block = getAppendBlock();
+        int blockIn = getLinesBlockLength(block.length), column = 0;
+        for (int bound = offset + length; offset < bound; offset += blockIn) {
+            int n = Math.min(blockIn, bound - offset);
+            sb.append(block, 0, encodeLinesWithoutArgumentsValidation(bytes, offset, n, block, null, 0, column));
+            column = getLineColumn(column, n);
+        }
+        return lengthOut;
+    }
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array and appends the resulting set of characters to the specified Appendable. <br />
+     * StringBuilder and array-backed CharBuffer are written directly, the characters are appended to the others in blocks, Writer is written by blocks of char[].
+     *
+     * @param bytes  The byte array containing the sequence of bytes to encode.
+     * @param offset The index of the first byte to encode.
+     * @param length The number of bytes to encode.
+     * @param out    The Appendable to append the resulting set of characters to.
+     * @return The number of characters appended.
+     * @throws IOException              If an I/O error occurs.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     * @throws BufferOverflowException  If out is a CharBuffer without enough remaining space.
+     * @throws ReadOnlyBufferException  If out is a read-only CharBuffer.
+     */
+    public int encodeTo(byte[] bytes, int offset, int length, Appendable out) throws IOException {
+        if (out instanceof StringBuilder)
+            return encodeTo(bytes, offset, length, (StringBuilder) out);
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!ArrayFunctions.validationInterval(bytes, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        if (out == null)
+            throw new IllegalArgumentException("out is null");
+        int lengthOut = getLinesEncodeCount(length, 0);
+        if (out instanceof CharBuffer) {
+            CharBuffer buffer = (CharBuffer) out;
+            if (buffer.isReadOnly())
+                throw new ReadOnlyBufferException();
+            if (buffer.remaining() < lengthOut)
+                throw new BufferOverflowException();
+            if (buffer.hasArray()) {
+                encodeLinesWithoutArgumentsValidation(bytes, offset, length, buffer.array(), null, buffer.arrayOffset() + buffer.position(), 0);
+                buffer.position(buffer.position() + lengthOut);
+                return lengthOut;
+            }
+        }
+        char[] block = getAppendBlock();
+        CharBuffer wrapped = out instanceof Writer || out instanceof CharBuffer ? null : CharBuffer.wrap(block);
+        int blockIn = getLinesBlockLength(block.length), column = 0;
+        for (int bound = offset + length; offset < bound; offset += blockIn) {
+            int lengthIn = Math.min(blockIn, bound - offset);
+            int n = encodeLinesWithoutArgumentsValidation(bytes, offset, lengthIn, block, null, 0, column);
+            column = getLineColumn(column, lengthIn);
+            if (out instanceof Writer)
+                ((Writer) out).write(block, 0, n);
+            else if (out instanceof CharBuffer)
+                ((CharBuffer) out).put(block, 0, n);
+            else
+                out.append(wrapped, 0, n);
+        }
+        return lengthOut;
+    }
+
+    private char[] getAppendBlock() {
+        // a separator longer than the shared block takes a block for a quantum between two separators
+        char[] block = APPEND_BLOCK.get();
+        return getLinesBlockLength(block.length) != 0 ? block : new char[getCharsPerQuantum() + 2 * getLineSeparator().length()];
     }
 
 
@@ -262,7 +820,7 @@ public abstract class BaseEncoding {
     public byte[] decode(char[] chars) {
         if (chars == null)
             throw new IllegalArgumentException("chars is null");
-        return decodeWithoutArgumentsValidation(chars, 0, chars.length);
+        return decodeLinesWithoutArgumentsValidation(chars, null, null, 0, chars.length);
     }
 
     /**
@@ -279,7 +837,7 @@ public abstract class BaseEncoding {
             throw new IllegalArgumentException("chars is null");
         if (!ArrayFunctions.validationInterval(chars, offset, length))
             throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
-        return decodeWithoutArgumentsValidation(chars, offset, length);
+        return decodeLinesWithoutArgumentsValidation(chars, null, null, offset, length);
     }
 
     /**
@@ -302,130 +860,2169 @@ public abstract class BaseEncoding {
             throw new IllegalArgumentException("bytesOut is null");
         if (!ArrayFunctions.validationInterval(bytesOut, offsetOut))
             throw new IllegalArgumentException("offsetOut is not an index of offsetOut");
-        return decodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        return decodeLinesWithoutArgumentsValidation(charsIn, null, null, offsetIn, lengthIn, bytesOut, offsetOut);
     }
 
-
-    /*
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of characters from the specified character sequence.
      *
-     * virtual(could be overridden), utility methods
+     * @param chars  The character sequence(String, StringBuilder, CharBuffer, etc.) containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return The number of bytes produced by decoding the specified characters.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int getDecodeCount(CharSequence chars, int offset, int length) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (!ArrayFunctions.validationInterval(chars, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
+        return getDecodeCountWithoutArgumentsValidation(chars, offset, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes all the characters in the specified character sequence into a sequence of bytes. <br />
+     * The characters are read by index, the character sequence is not copied.
      *
+     * @param chars The character sequence(String, StringBuilder, CharBuffer, etc.) containing the characters to decode.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     * @throws IllegalArgumentException Arguments error, see the source code.
      */
+    public byte[] decode(CharSequence chars) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        return decodeLinesWithoutArgumentsValidation(null, chars, null, 0, chars.length());
+    }
 
     /**
-     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified character array is actually valid by current encoding.
+     * When overridden in a derived class, decodes a set of characters from the specified character sequence into a sequence of bytes. <br />
+     * The characters are read by index, the character sequence is not copied.
      *
-     * @param chars  The character array containing the set of characters to validate.
-     * @param offset The index of the first character to validate.
-     * @param length The number of characters to validate.
-     * @return Returns true if the specified character array is valid.
+     * @param chars  The character sequence(String, StringBuilder, CharBuffer, etc.) containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return A byte array containing the results of decoding the specified set of characters.
      * @throws IllegalArgumentException Arguments error, see the source code.
      */
-    public boolean isValidBaseSequence(char[] chars, int offset, int length) {
+    public byte[] decode(CharSequence chars, int offset, int length) {
         if (chars == null)
             throw new IllegalArgumentException("chars is null");
         if (!ArrayFunctions.validationInterval(chars, offset, length))
             throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
-        return isValidBaseSequenceWithoutArgumentsValidation(chars, offset, length);
+        return decodeLinesWithoutArgumentsValidation(null, chars, null, offset, length);
     }
 
     /**
-     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified string is actually valid by current encoding.
+     * When overridden in a derived class, decodes a set of characters from the specified character sequence into the specified byte array. <br />
+     * The characters are read by index, the character sequence is not copied.
      *
-     * @param s The string containing the set of characters to validate.
-     * @return Returns true if the specified character array is valid.
+     * @param charsIn   The character sequence(String, StringBuilder, CharBuffer, etc.) containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
      * @throws IllegalArgumentException Arguments error, see the source code.
      */
-    public boolean isValidBaseString(String s) {
-        if (s == null)
-            throw new IllegalArgumentException("s is null");
-        return isValidBaseSequenceWithoutArgumentsValidation(s.toCharArray(), 0, s.length());
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of charsIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut))
+            throw new IllegalArgumentException("offsetOut is not an index of bytesOut");
+        return decodeLinesWithoutArgumentsValidation(null, charsIn, null, offsetIn, lengthIn, bytesOut, offsetOut);
     }
 
 
     /*
      *
-     * abstract, core methods
+     * virtual(could be overridden), ASCII encode and decode methods
      *
      */
 
     /**
-     * When overridden in a derived class, calculates the number of characters produced by encoding the sequence of bytes specified length from byte array. <br />
-     * No need to verify the correctness of the arguments.
+     * When overridden in a derived class, gets a value indicating whether the alphabet, the padding character and the line separator of the current encoding are all ASCII characters. <br />
+     * Only ASCII compatible encodings support the methods which read or write the symbols as ASCII bytes.
+     */
+    public boolean isAsciiCompatible() {
+        // 1 if compatible, -1 if not, 0 if not computed yet
+        int ascii = asciiCompatible;
+        if (ascii == 0) {
+            boolean compatible = ArrayFunctions.isAscii(getAlphabet()) && ArrayFunctions.isAscii(getLineSeparator().toCharArray())
+                    && (!isPaddingRequired() || getPaddingCharacter() < 0x80);
+            asciiCompatible = ascii = compatible ? 1 : -1;
+        }
+        return ascii > 0;
+    }
+
+    /**
+     * When overridden in a derived class, encodes all the bytes in the specified byte array into a set of ASCII characters, one byte for each character.
      *
-     * @param length The number of bytes to encode.
-     * @return The number of characters produced by encoding the sequence of bytes specified length.
+     * @param bytes The byte array containing the sequence of bytes to encode.
+     * @return A byte array containing the ASCII characters of encoding the specified sequence of bytes.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
      */
-    protected abstract int getEncodeCountWithoutArgumentsValidation(int length);
+    public byte[] encodeToAscii(byte[] bytes) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return encodeLinesToAsciiWithoutArgumentsValidation(bytes, 0, bytes.length);
+    }
 
     /**
-     * When overridden in a derived class, encodes all the bytes in the specified byte array into a set of characters. <br />
-     * No need to verify the correctness of the arguments.
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into a set of ASCII characters, one byte for each character.
      *
      * @param bytes  The byte array containing the sequence of bytes to encode.
      * @param offset The index of the first byte to encode.
      * @param length The number of bytes to encode.
-     * @return A character array containing the results of encoding the specified sequence of bytes.
+     * @return A byte array containing the ASCII characters of encoding the specified sequence of bytes.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
      */
-    protected abstract char[] encodeWithoutArgumentsValidation(byte[] bytes, int offset, int length);
+    public byte[] encodeToAscii(byte[] bytes, int offset, int length) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!ArrayFunctions.validationInterval(bytes, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return encodeLinesToAsciiWithoutArgumentsValidation(bytes, offset, length);
+    }
 
     /**
-     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into the specified character array. <br />
-     * No need to verify the correctness of the arguments.
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into the specified byte array as ASCII characters.
      *
      * @param bytesIn   The byte array containing the sequence of bytes to encode.
      * @param offsetIn  The index of the first byte to encode.
      * @param lengthIn  The number of bytes to encode.
-     * @param charsOut  The character array to contain the resulting set of characters.
-     * @param offsetOut The index at which to start writing the resulting set of characters.
-     * @return The actual number of characters written into chars.
+     * @param asciiOut  The byte array to contain the resulting set of ASCII characters.
+     * @param offsetOut The index at which to start writing the resulting set of ASCII characters.
+     * @return The actual number of ASCII characters written into asciiOut.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
      */
-    protected abstract int encodeWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut);
+    public int encodeToAscii(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        if (bytesIn == null)
+            throw new IllegalArgumentException("bytesIn is null");
+        if (!ArrayFunctions.validationInterval(bytesIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of bytesIn");
+        if (asciiOut == null)
+            throw new IllegalArgumentException("asciiOut is null");
+        if (!ArrayFunctions.validationInterval(asciiOut, offsetOut))
+            throw new IllegalArgumentException("offsetOut is not an index of asciiOut");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return encodeLinesWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn, null, asciiOut, offsetOut, 0);
+    }
 
     /**
-     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of characters from the specified character array. <br />
-     * No need to verify the correctness of the arguments.
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of ASCII characters from the specified byte array.
      *
-     * @param chars  The character array containing the set of characters to decode.
-     * @param offset The index of the first character to decode.
-     * @param length The number of characters to decode.
-     * @return The number of bytes produced by decoding the specified characters.
+     * @param ascii  The byte array containing the set of ASCII characters to decode.
+     * @param offset The index of the first ASCII character to decode.
+     * @param length The number of ASCII characters to decode.
+     * @return The number of bytes produced by decoding the specified ASCII characters.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
      */
-    protected abstract int getDecodeCountWithoutArgumentsValidation(char[] chars, int offset, int length);
+    public int getDecodeCountFromAscii(byte[] ascii, int offset, int length) {
+        if (ascii == null)
+            throw new IllegalArgumentException("ascii is null");
+        if (!ArrayFunctions.validationInterval(ascii, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of ascii");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return getDecodeCountFromAsciiWithoutArgumentsValidation(ascii, offset, length);
+    }
 
     /**
-     * When overridden in a derived class, decodes a set of characters from the specified character array into a sequence of bytes. <br />
-     * No need to verify the correctness of the arguments.
+     * When overridden in a derived class, decodes all the ASCII characters in the specified byte array into a sequence of bytes.
      *
-     * @param chars  The character array containing the set of characters to decode.
-     * @param offset The index of the first character to decode.
-     * @param length The number of characters to decode.
-     * @return A byte array containing the results of decoding the specified set of characters.
+     * @param ascii The byte array containing the ASCII characters to decode.
+     * @return A byte array containing the results of decoding the specified set of ASCII characters.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
      */
-    protected abstract byte[] decodeWithoutArgumentsValidation(char[] chars, int offset, int length);
+    public byte[] decodeFromAscii(byte[] ascii) {
+        if (ascii == null)
+            throw new IllegalArgumentException("ascii is null");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return decodeLinesWithoutArgumentsValidation(null, null, ascii, 0, ascii.length);
+    }
 
     /**
-     * When overridden in a derived class, decodes a set of characters from the specified character array into the specified byte array. <br />
-     * No need to verify the correctness of the arguments.
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified byte array into a sequence of bytes.
      *
-     * @param charsIn   The character array containing the set of characters to decode.
-     * @param offsetIn  The index of the first character to decode.
-     * @param lengthIn  The number of characters to decode.
-     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param ascii  The byte array containing the set of ASCII characters to decode.
+     * @param offset The index of the first ASCII character to decode.
+     * @param length The number of ASCII characters to decode.
+     * @return A byte array containing the results of decoding the specified set of ASCII characters.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public byte[] decodeFromAscii(byte[] ascii, int offset, int length) {
+        if (ascii == null)
+            throw new IllegalArgumentException("ascii is null");
+        if (!ArrayFunctions.validationInterval(ascii, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of ascii");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return decodeLinesWithoutArgumentsValidation(null, null, ascii, offset, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified byte array into the specified byte array.
+     *
+     * @param asciiIn   The byte array containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public int decodeFromAscii(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (asciiIn == null)
+            throw new IllegalArgumentException("asciiIn is null");
+        if (!ArrayFunctions.validationInterval(asciiIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of asciiIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut))
+            throw new IllegalArgumentException("offsetOut is not an index of bytesOut");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return decodeLinesWithoutArgumentsValidation(null, null, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, gets a value indicating whether a set of ASCII characters from the specified byte array is actually valid by current encoding.
+     *
+     * @param ascii  The byte array containing the set of ASCII characters to validate.
+     * @param offset The index of the first ASCII character to validate.
+     * @param length The number of ASCII characters to validate.
+     * @return Returns true if the specified ASCII characters are valid.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public boolean isValidAsciiSequence(byte[] ascii, int offset, int length) {
+        if (ascii == null)
+            throw new IllegalArgumentException("ascii is null");
+        if (!ArrayFunctions.validationInterval(ascii, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of ascii");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return isValidLinesWithoutArgumentsValidation(null, null, ascii, offset, length);
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), NIO buffer methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, encodes the remaining bytes of the source buffer into the destination buffer. <br />
+     * The remaining bytes of src are the whole input, the last partial quantum is encoded only when the whole result fits into dst. Otherwise as many whole quanta as dst can hold are encoded. <br />
+     * If the output is wrapped, the part is a number of whole lines each followed by the separator instead, so dst must hold at least one line and the separator. <br />
+     * The positions of both buffers are advanced by the numbers of bytes read and characters written, src.hasRemaining() tells whether the encoding has been finished.
+     *
+     * @param src The buffer containing the sequence of bytes to encode.
+     * @param dst The buffer to contain the resulting set of characters.
+     * @return The actual number of characters written into dst.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     * @throws ReadOnlyBufferException  If dst is read-only.
+     */
+    public int encode(ByteBuffer src, CharBuffer dst) {
+        if (src == null)
+            throw new IllegalArgumentException("src is null");
+        if (dst == null)
+            throw new IllegalArgumentException("dst is null");
+        if (dst.isReadOnly())
+            throw new ReadOnlyBufferException();
+        int positionIn = src.position(), positionOut = dst.position();
+        int lengthIn = getEncodableLength(src.remaining(), dst.remaining());
+        int lengthOut = src.hasArray() && dst.hasArray()
+                ? encodeLinesWithoutArgumentsValidation(src.array(), src.arrayOffset() + positionIn, lengthIn, dst.array(), null, dst.arrayOffset() + positionOut, 0)
+                : encodeLinesWithoutArgumentsValidation(src, positionIn, lengthIn, dst, null, positionOut, 0);
+        src.position(positionIn + lengthIn);
+        dst.position(positionOut + lengthOut);
+        if (lengthIn != 0 && src.hasRemaining()) {
+            // the part ends with a whole line, the separator is written now because the next call starts a new line
+            String separator = getLineSeparator();
+            dst.put(separator);
+            lengthOut += separator.length();
+        }
+        return lengthOut;
+    }
+
+    /**
+     * When overridden in a derived class, encodes the remaining bytes of the source buffer into the destination buffer as ASCII characters. <br />
+     * The remaining bytes of src are the whole input, the last partial quantum is encoded only when the whole result fits into dst. Otherwise as many whole quanta as dst can hold are encoded. <br />
+     * If the output is wrapped, the part is a number of whole lines each followed by the separator instead, so dst must hold at least one line and the separator. <br />
+     * The positions of both buffers are advanced by the numbers of bytes read and written, src.hasRemaining() tells whether the encoding has been finished.
+     *
+     * @param src The buffer containing the sequence of bytes to encode.
+     * @param dst The buffer to contain the resulting set of ASCII characters.
+     * @return The actual number of ASCII characters written into dst.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws ReadOnlyBufferException       If dst is read-only.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public int encodeToAscii(ByteBuffer src, ByteBuffer dst) {
+        if (src == null)
+            throw new IllegalArgumentException("src is null");
+        if (dst == null)
+            throw new IllegalArgumentException("dst is null");
+        if (dst.isReadOnly())
+            throw new ReadOnlyBufferException();
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        int positionIn = src.position(), positionOut = dst.position();
+        int lengthIn = getEncodableLength(src.remaining(), dst.remaining());
+        int lengthOut = src.hasArray() && dst.hasArray()
+                ? encodeLinesWithoutArgumentsValidation(src.array(), src.arrayOffset() + positionIn, lengthIn, null, dst.array(), dst.arrayOffset() + positionOut, 0)
+                : encodeLinesWithoutArgumentsValidation(src, positionIn, lengthIn, null, dst, positionOut, 0);
+        src.position(positionIn + lengthIn);
+        dst.position(positionOut + lengthOut);
+        if (lengthIn != 0 && src.hasRemaining()) {
+            // the part ends with a whole line, the separator is written now because the next call starts a new line
+            String separator = getLineSeparator();
+            for (int i = 0; i < separator.length(); i++)
+                dst.put((byte) separator.charAt(i));
+            lengthOut += separator.length();
+        }
+        return lengthOut;
+    }
+
+    /**
+     * When overridden in a derived class, decodes the remaining characters of the source buffer into the destination buffer. <br />
+     * The remaining characters of src are the whole input, the last quantum is decoded only when the whole result fits into dst. Otherwise as many whole quanta as dst can hold are decoded. <br />
+     * If the output is wrapped, the separators are skipped wherever they are. <br />
+     * The positions of both buffers are advanced by the numbers of characters read and bytes written, src.hasRemaining() tells whether the decoding has been finished.
+     *
+     * @param src The buffer containing the set of characters to decode.
+     * @param dst The buffer to contain the resulting sequence of bytes.
+     * @return The actual number of bytes written into dst.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     * @throws ReadOnlyBufferException  If dst is read-only.
+     */
+    public int decode(CharBuffer src, ByteBuffer dst) {
+        if (src == null)
+            throw new IllegalArgumentException("src is null");
+        if (dst == null)
+            throw new IllegalArgumentException("dst is null");
+        if (dst.isReadOnly())
+            throw new ReadOnlyBufferException();
+        if (getLineLength() != 0)
+            return decodeLinesWithoutArgumentsValidation(src, new BufferSequence(src), dst);
+        int positionIn = src.position(), positionOut = dst.position(), lengthIn = src.remaining(), lengthOut;
+        if (src.hasArray() && dst.hasArray()) {
+            char[] charsIn = src.array();
+            int offsetIn = src.arrayOffset() + positionIn;
+            lengthIn = getDecodableLength(lengthIn, getDecodeCountWithoutArgumentsValidation(charsIn, offsetIn, lengthIn), dst.remaining());
+            lengthOut = decodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, dst.array(), dst.arrayOffset() + positionOut);
+        } else {
+            lengthIn = getDecodableLength(lengthIn, getDecodeCountWithoutArgumentsValidation(src, positionIn, lengthIn), dst.remaining());
+            lengthOut = decodeWithoutArgumentsValidation(src, positionIn, lengthIn, dst, positionOut);
+        }
+        src.position(positionIn + lengthIn);
+        dst.position(positionOut + lengthOut);
+        return lengthOut;
+    }
+
+    /**
+     * When overridden in a derived class, decodes the remaining ASCII characters of the source buffer into the destination buffer. <br />
+     * The remaining ASCII characters of src are the whole input, the last quantum is decoded only when the whole result fits into dst. Otherwise as many whole quanta as dst can hold are decoded. <br />
+     * If the output is wrapped, the separators are skipped wherever they are. <br />
+     * The positions of both buffers are advanced by the numbers of bytes read and written, src.hasRemaining() tells whether the decoding has been finished.
+     *
+     * @param src The buffer containing the set of ASCII characters to decode.
+     * @param dst The buffer to contain the resulting sequence of bytes.
+     * @return The actual number of bytes written into dst.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws ReadOnlyBufferException       If dst is read-only.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public int decodeFromAscii(ByteBuffer src, ByteBuffer dst) {
+        if (src == null)
+            throw new IllegalArgumentException("src is null");
+        if (dst == null)
+            throw new IllegalArgumentException("dst is null");
+        if (dst.isReadOnly())
+            throw new ReadOnlyBufferException();
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        if (getLineLength() != 0)
+            return decodeLinesWithoutArgumentsValidation(src, new BufferSequence(src), dst);
+        int positionIn = src.position(), positionOut = dst.position(), lengthIn = src.remaining(), lengthOut;
+        if (src.hasArray() && dst.hasArray()) {
+            byte[] asciiIn = src.array();
+            int offsetIn = src.arrayOffset() + positionIn;
+            lengthIn = getDecodableLength(lengthIn, getDecodeCountFromAsciiWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn), dst.remaining());
+            lengthOut = decodeFromAsciiWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn, dst.array(), dst.arrayOffset() + positionOut);
+        } else {
+            lengthIn = getDecodableLength(lengthIn, getDecodeCountFromAsciiWithoutArgumentsValidation(src, positionIn, lengthIn), dst.remaining());
+            lengthOut = decodeFromAsciiWithoutArgumentsValidation(src, positionIn, lengthIn, dst, positionOut);
+        }
+        src.position(positionIn + lengthIn);
+        dst.position(positionOut + lengthOut);
+        return lengthOut;
+    }
+
+    private int getEncodableLength(int lengthIn, int capacityOut) {
+        if (getLinesEncodeCount(lengthIn, 0) <= capacityOut)
+            return lengthIn;
+        // the lines are the quanta if the output is not wrapped, every line of a part is followed by a separator
+        int lineIn = getBytesPerLine(), lineOut = getLinesEncodeCount(lineIn, 0) + getLineSeparator().length();
+        return Math.min(lengthIn / lineIn, capacityOut / lineOut) * lineIn;
+    }
+
+    private int decodeLinesWithoutArgumentsValidation(Buffer src, CharSequence sequenceIn, ByteBuffer dst) {
+        // sequenceIn reads src by absolute index, the separators are skipped and a part ends after a whole number of quanta
+        boolean[] separators = getSeparatorTable();
+        int quantumIn = getCharsPerQuantum(), quantumOut = getBytesPerQuantum(), positionIn = src.position(), bound = src.limit();
+        int significant = getSignificantCount(null, sequenceIn, null, positionIn, bound - positionIn, separators);
+        int lengthOut = tryGetLinesDecodeCount(null, sequenceIn, null, positionIn, bound - positionIn, significant, separators);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        if (lengthOut > dst.remaining()) {
+            // the last quantum is left to the call which has enough capacity
+            int quanta = Math.min((significant - 1) / quantumIn, dst.remaining() / quantumOut);
+            bound = indexOfSignificant(null, sequenceIn, null, positionIn, bound, quanta * quantumIn, separators);
+            lengthOut = quanta * quantumOut;
+        }
+        if (dst.hasArray()) {
+            if (tryDecodeLinesWithoutArgumentsValidation(null, sequenceIn, null, positionIn, bound - positionIn, dst.array(), dst.arrayOffset() + dst.position(), separators) != lengthOut)
+                throw new IllegalArgumentException("input sequence is not a valid base sequence");
+            dst.position(dst.position() + lengthOut);
+        } else {
+            // a direct buffer is written by blocks of whole quanta, the last block takes the padded or partial quantum
+            byte[] block = new byte[Math.min(lengthOut, BufferSequence.BLOCK_QUANTA * quantumOut)];
+            for (int restOut = lengthOut, position = positionIn; restOut != 0; ) {
+                boolean last = restOut <= block.length;
+                int n = last ? restOut : block.length;
+                int end = last ? bound : indexOfSignificant(null, sequenceIn, null, position, bound, n / quantumOut * quantumIn, separators);
+                if (tryDecodeLinesWithoutArgumentsValidation(null, sequenceIn, null, position, end - position, block, 0, separators) != n)
+                    throw new IllegalArgumentException("input sequence is not a valid base sequence");
+                dst.put(block, 0, n);
+                position = end;
+                restOut -= n;
+            }
+        }
+        src.position(bound);
+        return lengthOut;
+    }
+
+    private int getDecodableLength(int lengthIn, int lengthOut, int capacityOut) {
+        if (lengthOut <= capacityOut)
+            return lengthIn;
+        // the last quantum may be padded or partial, it is left to the call which has enough capacity
+        int quantumIn = getCharsPerQuantum();
+        return Math.min((lengthIn - 1) / quantumIn, capacityOut / getBytesPerQuantum()) * quantumIn;
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), exception-free decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character array into the specified byte array without throwing exceptions for invalid sequences. <br />
+     * Returns the actual number of bytes written into bytesOut if the set of characters is valid, otherwise returns -(index + 1), the index is the absolute index of the first invalid character in charsIn,
+     * or offsetIn + lengthIn if every character is valid but the sequence is truncated.
+     *
+     * @param charsIn   The character array containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut, or -(index of the first invalid character + 1).
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of charsIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut))
+            throw new IllegalArgumentException("offsetOut is not an index of bytesOut");
+        int lengthOut = tryDecodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        return lengthOut >= 0 ? lengthOut : -indexOfInvalidCharacterWithoutArgumentsValidation(charsIn, offsetIn, lengthIn) - 1;
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character sequence into the specified byte array without throwing exceptions for invalid sequences. <br />
+     * Returns the actual number of bytes written into bytesOut if the set of characters is valid, otherwise returns -(index + 1), the index is the absolute index of the first invalid character in charsIn,
+     * or offsetIn + lengthIn if every character is valid but the sequence is truncated.
+     *
+     * @param charsIn   The character sequence(String, StringBuilder, CharBuffer, etc.) containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut, or -(index of the first invalid character + 1).
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of charsIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut))
+            throw new IllegalArgumentException("offsetOut is not an index of bytesOut");
+        int lengthOut = tryDecodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        return lengthOut >= 0 ? lengthOut : -indexOfInvalidCharacterWithoutArgumentsValidation(charsIn, offsetIn, lengthIn) - 1;
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified byte array into the specified byte array without throwing exceptions for invalid sequences. <br />
+     * Returns the actual number of bytes written into bytesOut if the set of ASCII characters is valid, otherwise returns -(index + 1), the index is the absolute index of the first invalid ASCII character in asciiIn,
+     * or offsetIn + lengthIn if every ASCII character is valid but the sequence is truncated.
+     *
+     * @param asciiIn   The byte array containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut, or -(index of the first invalid ASCII character + 1).
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public int tryDecodeFromAscii(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        if (asciiIn == null)
+            throw new IllegalArgumentException("asciiIn is null");
+        if (!ArrayFunctions.validationInterval(asciiIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of asciiIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut))
+            throw new IllegalArgumentException("offsetOut is not an index of bytesOut");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        int lengthOut = tryDecodeFromAsciiWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        return lengthOut >= 0 ? lengthOut : -indexOfInvalidAsciiCharacterWithoutArgumentsValidation(asciiIn, offsetIn, lengthIn) - 1;
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), lenient decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, gets the characters skipped by the lenient decode methods by default,
+     * which are the space, the tab, CR, LF and the characters of getLineSeparator().
+     */
+    public String getIgnorableCharacters() {
+        StringBuilder ignorable = new StringBuilder(" \t\r\n");
+        String separator = getLineSeparator();
+        for (int i = 0; i < separator.length(); i++) {
+            char c = separator.charAt(i);
+            // each character once, CRLF is already there
+            if (ignorable.indexOf(String.valueOf(c)) < 0)
+                ignorable.append(c);
+        }
+        return ignorable.toString();
+    }
+
+    /**
+     * Calculates the maximum number of bytes produced by decoding a set of characters specified length leniently. <br />
+     * The actual number is less when the set contains ignorable characters or padding.
+     *
+     * @param length The number of characters to decode, including the ignorable characters.
+     * @return The maximum number of bytes produced by the lenient decode.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int getLenientDecodeCount(int length) {
+        if (length < 0)
+            throw new IllegalArgumentException("length is less than 0");
+        return (int) ((long) length * getBytesPerQuantum() / getCharsPerQuantum());
+    }
+
+    /**
+     * Decodes a character sequence leniently, the characters of getIgnorableCharacters() are skipped wherever they are.
+     *
+     * @param chars The character sequence(String, StringBuilder, CharBuffer, etc.) to decode.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     * @throws IllegalArgumentException Arguments error, or the set of characters without the ignorable characters is not a valid base sequence.
+     */
+    public byte[] decodeLenient(CharSequence chars) {
+        return decodeLenient(chars, getIgnorableCharacters());
+    }
+
+    /**
+     * Decodes a character sequence leniently, the specified ignorable characters are skipped wherever they are.
+     *
+     * @param chars     The character sequence(String, StringBuilder, CharBuffer, etc.) to decode.
+     * @param ignorable The characters to skip, they could not be characters of the alphabet or the padding.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     * @throws IllegalArgumentException Arguments error, or the set of characters without the ignorable characters is not a valid base sequence.
+     */
+    public byte[] decodeLenient(CharSequence chars, String ignorable) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        byte[] bytes = new byte[getLenientDecodeCount(chars.length())];
+        int lengthOut = decodeLenientWithoutArgumentsValidation(null, chars, null, 0, chars.length(), bytes, 0, getIgnorableTable(ignorable));
+        return lengthOut == bytes.length ? bytes : Arrays.copyOf(bytes, lengthOut);
+    }
+
+    /**
+     * Decodes a set of characters from the specified character array into the specified byte array leniently, the specified ignorable characters are skipped wherever they are.
+     *
+     * @param charsIn   The character array containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes, it must have enough capacity for getLenientDecodeCount(lengthIn) bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @param ignorable The characters to skip, they could not be characters of the alphabet or the padding.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException Arguments error, or the set of characters without the ignorable characters is not a valid base sequence.
+     */
+    public int decodeLenient(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, String ignorable) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of charsIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut, getLenientDecodeCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decodeLenientWithoutArgumentsValidation(charsIn, null, null, offsetIn, lengthIn, bytesOut, offsetOut, getIgnorableTable(ignorable));
+    }
+
+    /**
+     * Decodes a set of characters from the specified character sequence into the specified byte array leniently, the specified ignorable characters are skipped wherever they are.
+     *
+     * @param charsIn   The character sequence(String, StringBuilder, CharBuffer, etc.) containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes, it must have enough capacity for getLenientDecodeCount(lengthIn) bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @param ignorable The characters to skip, they could not be characters of the alphabet or the padding.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException Arguments error, or the set of characters without the ignorable characters is not a valid base sequence.
+     */
+    public int decodeLenient(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, String ignorable) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of charsIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut, getLenientDecodeCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decodeLenientWithoutArgumentsValidation(null, charsIn, null, offsetIn, lengthIn, bytesOut, offsetOut, getIgnorableTable(ignorable));
+    }
+
+    /**
+     * Decodes a set of ASCII characters leniently, the characters of getIgnorableCharacters() are skipped wherever they are.
+     *
+     * @param ascii The byte array containing the set of ASCII characters to decode.
+     * @return A byte array containing the results of decoding the specified set of ASCII characters.
+     * @throws IllegalArgumentException      Arguments error, or the set of ASCII characters without the ignorable characters is not a valid base sequence.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public byte[] decodeLenientFromAscii(byte[] ascii) {
+        if (ascii == null)
+            throw new IllegalArgumentException("ascii is null");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        byte[] bytes = new byte[getLenientDecodeCount(ascii.length)];
+        int lengthOut = decodeLenientWithoutArgumentsValidation(null, null, ascii, 0, ascii.length, bytes, 0, getIgnorableTable(getIgnorableCharacters()));
+        return lengthOut == bytes.length ? bytes : Arrays.copyOf(bytes, lengthOut);
+    }
+
+    /**
+     * Decodes a set of ASCII characters from the specified byte array into the specified byte array leniently, the specified ignorable characters are skipped wherever they are.
+     *
+     * @param asciiIn   The byte array containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes, it must have enough capacity for getLenientDecodeCount(lengthIn) bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @param ignorable The characters to skip, they could not be characters of the alphabet or the padding.
+     * @return The actual number of bytes written into bytesOut.
+     * @throws IllegalArgumentException      Arguments error, or the set of ASCII characters without the ignorable characters is not a valid base sequence.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public int decodeLenientFromAscii(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, String ignorable) {
+        if (asciiIn == null)
+            throw new IllegalArgumentException("asciiIn is null");
+        if (!ArrayFunctions.validationInterval(asciiIn, offsetIn, lengthIn))
+            throw new IllegalArgumentException("offsetIn and lengthIn can't reference an effective tuple of asciiIn");
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offsetOut, getLenientDecodeCount(lengthIn)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        return decodeLenientWithoutArgumentsValidation(null, null, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, getIgnorableTable(ignorable));
+    }
+
+    private boolean[] getIgnorableTable(String ignorable) {
+        if (ignorable == null)
+            throw new IllegalArgumentException("ignorable is null");
+        // the table of the last ignorable characters is kept, the lenient decodings usually pass the same ones
+        IgnorableTable table = ignorableTable;
+        if (table == null || !table.ignorable.equals(ignorable))
+            ignorableTable = table = new IgnorableTable(ignorable, newIgnorableTable(ignorable));
+        return table.table;
+    }
+
+    boolean[] getSeparatorTable() {
+        IgnorableTable table = separatorTable;
+        if (table == null)
+            separatorTable = table = new IgnorableTable(getLineSeparator(), newIgnorableTable(getLineSeparator()));
+        return table.table;
+    }
+
+    private boolean[] newIgnorableTable(String ignorable) {
+        char[] alphabet = getAlphabet();
+        char max = 0;
+        for (int i = 0; i < ignorable.length(); i++) {
+            char c = ignorable.charAt(i);
+            if (ArrayFunctions.isArrayContains(alphabet, c) || isPaddingRequired() && c == getPaddingCharacter())
+                throw new IllegalArgumentException("ignorable contains characters of the alphabet or the padding");
+            max = (char) Math.max(max, c);
+        }
+        // indexed by the character, the ignorable characters are usually a few control characters
+        boolean[] table = new boolean[ignorable.length() == 0 ? 0 : max + 1];
+        for (int i = 0; i < ignorable.length(); i++)
+            table[ignorable.charAt(i)] = true;
+        return table;
+    }
+
+    private int decodeLenientWithoutArgumentsValidation(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, boolean[] ignorable) {
+        int lengthOut = tryDecodeLinesWithoutArgumentsValidation(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, ignorable);
+        if (lengthOut < 0)
+            throw newInvalidSequenceException(indexOfInvalidLinesCharacter(charsIn, sequenceIn, asciiIn, offsetIn, lengthIn, ignorable));
+        return lengthOut;
+    }
+
+    static boolean isIgnorable(int c, boolean[] ignorable) {
+        return c < ignorable.length && ignorable[c];
+    }
+
+    static int indexOfIgnorable(char[] charsIn, CharSequence sequenceIn, byte[] asciiIn, int offset, int bound, boolean[] ignorable, boolean value) {
+        // the first index at which the character is ignorable(value is true) or not(value is false), bound if there is none
+        if (charsIn != null) {
+            while (offset != bound && isIgnorable(charsIn[offset], ignorable) != value)
+                offset++;
+        } else if (sequenceIn != null) {
+            while (offset != bound && isIgnorable(sequenceIn.charAt(offset), ignorable) != value)
+                offset++;
+        } else {
+            while (offset != bound && isIgnorable(asciiIn[offset] & 0xFF, ignorable) != value)
+                offset++;
+        }
+        return offset;
+    }
+
+    /*
+     *
+     * virtual(could be overridden), batch encode and decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, encodes many records packed in the specified byte array into one character array. <br />
+     * The i-th record is the sequence of bytes from offsetsIn[i] (inclusive) to offsetsIn[i + 1] (exclusive), the records are encoded independently,
+     * so every record which is not a whole number of quanta ends with its own padding. <br />
+     * The boundaries of the encoded records are written into offsetsOut, the i-th encoded record is from offsetsOut[i] (inclusive) to offsetsOut[i + 1] (exclusive).
+     *
+     * @param bytes      The byte array containing the records to encode.
+     * @param offsetsIn  The boundaries of the records in bytes, it must be non-decreasing and contain at least one element.
+     * @param offsetsOut The array to contain the boundaries of the encoded records in the result, it must have the same length as offsetsIn.
+     * @return A character array containing the results of encoding all the records contiguously.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public char[] encodeBatch(byte[] bytes, int[] offsetsIn, int[] offsetsOut) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (offsetsIn == null)
+            throw new IllegalArgumentException("offsetsIn is null");
+        if (!ArrayFunctions.validationOffsets(offsetsIn, bytes.length))
+            throw new IllegalArgumentException("offsetsIn can't reference effective records of bytes");
+        if (offsetsOut == null)
+            throw new IllegalArgumentException("offsetsOut is null");
+        if (offsetsOut.length != offsetsIn.length)
+            throw new IllegalArgumentException("offsetsOut does not have the same length as offsetsIn");
+        char[] chars = new char[getBatchEncodeCount(offsetsIn, offsetsOut)];
+        for (int i = 0, n = offsetsIn.length - 1; i < n; i++)
+            encodeLinesWithoutArgumentsValidation(bytes, offsetsIn[i], offsetsIn[i + 1] - offsetsIn[i], chars, null, offsetsOut[i], 0);
+        return chars;
+    }
+
+    /**
+     * When overridden in a derived class, encodes many records referenced by (array, offset, length) into one character array. <br />
+     * The i-th record is the sequence of bytes from arrays[i] starting at offsets[i] with lengths[i] bytes, the records are encoded independently. <br />
+     * The boundaries of the encoded records are written into offsetsOut, the i-th encoded record is from offsetsOut[i] (inclusive) to offsetsOut[i + 1] (exclusive).
+     *
+     * @param arrays     The byte arrays containing the records to encode.
+     * @param offsets    The index of the first byte of every record.
+     * @param lengths    The number of bytes of every record.
+     * @param offsetsOut The array to contain the boundaries of the encoded records in the result, it must have arrays.length + 1 elements.
+     * @return A character array containing the results of encoding all the records contiguously.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public char[] encodeBatch(byte[][] arrays, int[] offsets, int[] lengths, int[] offsetsOut) {
+        if (arrays == null)
+            throw new IllegalArgumentException("arrays is null");
+        if (offsets == null)
+            throw new IllegalArgumentException("offsets is null");
+        if (lengths == null)
+            throw new IllegalArgumentException("lengths is null");
+        if (offsets.length != arrays.length || lengths.length != arrays.length)
+            throw new IllegalArgumentException("offsets and lengths do not have the same length as arrays");
+        if (offsetsOut == null)
+            throw new IllegalArgumentException("offsetsOut is null");
+        if (offsetsOut.length != arrays.length + 1)
+            throw new IllegalArgumentException("offsetsOut does not have arrays.length + 1 elements");
+        long count = 0;
+        for (int i = 0; i < arrays.length; i++) {
+            if (arrays[i] == null)
+                throw new IllegalArgumentException("arrays[" + i + "] is null");
+            if (!ArrayFunctions.validationInterval(arrays[i], offsets[i], lengths[i]))
+                throw new IllegalArgumentException("offsets[" + i + "] and lengths[" + i + "] can't reference an effective tuple of arrays[" + i + "]");
+            offsetsOut[i] = (int) count;
+            count += getLinesEncodeCount(lengths[i], 0);
+            if (count > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("output sequence is too long");
+        }
+        offsetsOut[arrays.length] = (int) count;
+        char[] chars = new char[(int) count];
+        for (int i = 0; i < arrays.length; i++)
+            encodeLinesWithoutArgumentsValidation(arrays[i], offsets[i], lengths[i], chars, null, offsetsOut[i], 0);
+        return chars;
+    }
+
+    /**
+     * When overridden in a derived class, encodes many records packed in the specified byte array into one byte array as ASCII characters. <br />
+     * The records and offsetsOut are the same as encodeBatch(byte[], int[], int[]).
+     *
+     * @param bytes      The byte array containing the records to encode.
+     * @param offsetsIn  The boundaries of the records in bytes, it must be non-decreasing and contain at least one element.
+     * @param offsetsOut The array to contain the boundaries of the encoded records in the result, it must have the same length as offsetsIn.
+     * @return A byte array containing the results of encoding all the records contiguously as ASCII characters.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public byte[] encodeBatchToAscii(byte[] bytes, int[] offsetsIn, int[] offsetsOut) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (offsetsIn == null)
+            throw new IllegalArgumentException("offsetsIn is null");
+        if (!ArrayFunctions.validationOffsets(offsetsIn, bytes.length))
+            throw new IllegalArgumentException("offsetsIn can't reference effective records of bytes");
+        if (offsetsOut == null)
+            throw new IllegalArgumentException("offsetsOut is null");
+        if (offsetsOut.length != offsetsIn.length)
+            throw new IllegalArgumentException("offsetsOut does not have the same length as offsetsIn");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        byte[] ascii = new byte[getBatchEncodeCount(offsetsIn, offsetsOut)];
+        for (int i = 0, n = offsetsIn.length - 1; i < n; i++)
+            encodeLinesWithoutArgumentsValidation(bytes, offsetsIn[i], offsetsIn[i + 1] - offsetsIn[i], null, ascii, offsetsOut[i], 0);
+        return ascii;
+    }
+
+    /**
+     * When overridden in a derived class, decodes many records packed in the specified character array into one byte array. <br />
+     * The i-th record is the set of characters from offsetsIn[i] (inclusive) to offsetsIn[i + 1] (exclusive), every record must be a valid base sequence by itself,
+     * the separators of a wrapped encoding are skipped. <br />
+     * The boundaries of the decoded records are written into offsetsOut, the i-th decoded record is from offsetsOut[i] (inclusive) to offsetsOut[i + 1] (exclusive).
+     *
+     * @param chars      The character array containing the records to decode.
+     * @param offsetsIn  The boundaries of the records in chars, it must be non-decreasing and contain at least one element.
+     * @param offsetsOut The array to contain the boundaries of the decoded records in the result, it must have the same length as offsetsIn.
+     * @return A byte array containing the results of decoding all the records contiguously.
+     * @throws IllegalArgumentException Arguments error, or a record is not a valid base sequence, the message contains the index of the first invalid character.
+     */
+    public byte[] decodeBatch(char[] chars, int[] offsetsIn, int[] offsetsOut) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (offsetsIn == null)
+            throw new IllegalArgumentException("offsetsIn is null");
+        if (!ArrayFunctions.validationOffsets(offsetsIn, chars.length))
+            throw new IllegalArgumentException("offsetsIn can't reference effective records of chars");
+        if (offsetsOut == null)
+            throw new IllegalArgumentException("offsetsOut is null");
+        if (offsetsOut.length != offsetsIn.length)
+            throw new IllegalArgumentException("offsetsOut does not have the same length as offsetsIn");
+        if (getLineLength() != 0)
+            return decodeLinesBatchWithoutArgumentsValidation(chars, null, offsetsIn, offsetsOut);
+        int n = offsetsIn.length - 1;
+        offsetsOut[0] = 0;
+        // the sizes and the paddings are checked without exceptions, the position of an error is found by the validation core
+        CharSequence sequence = CharBuffer.wrap(chars);
+        for (int i = 0; i < n; i++) {
+            int offset = offsetsIn[i], length = offsetsIn[i + 1] - offset;
+            int count = tryGetDecodeCountWithoutArgumentsValidation(sequence, offset, length);
+            if (count < 0)
+                throw newInvalidSequenceException(indexOfInvalidCharacterWithoutArgumentsValidation(chars, offset, length));
+            // the sum never overflows, every record decodes to fewer bytes than its characters
+            offsetsOut[i + 1] = offsetsOut[i] + count;
+        }
+        byte[] bytes = new byte[offsetsOut[n]];
+        for (int i = 0; i < n; i++) {
+            int offset = offsetsIn[i], length = offsetsIn[i + 1] - offset;
+            if (tryDecodeWithoutArgumentsValidation(chars, offset, length, bytes, offsetsOut[i]) < 0)
+                throw newInvalidSequenceException(indexOfInvalidCharacterWithoutArgumentsValidation(chars, offset, length));
+        }
+        return bytes;
+    }
+
+    /**
+     * When overridden in a derived class, decodes many records packed in the specified byte array as ASCII characters into one byte array. <br />
+     * The records and offsetsOut are the same as decodeBatch(char[], int[], int[]).
+     *
+     * @param ascii      The byte array containing the records of ASCII characters to decode.
+     * @param offsetsIn  The boundaries of the records in ascii, it must be non-decreasing and contain at least one element.
+     * @param offsetsOut The array to contain the boundaries of the decoded records in the result, it must have the same length as offsetsIn.
+     * @return A byte array containing the results of decoding all the records contiguously.
+     * @throws IllegalArgumentException      Arguments error, or a record is not a valid base sequence, the message contains the index of the first invalid ASCII character.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public byte[] decodeBatchFromAscii(byte[] ascii, int[] offsetsIn, int[] offsetsOut) {
+        if (ascii == null)
+            throw new IllegalArgumentException("ascii is null");
+        if (offsetsIn == null)
+            throw new IllegalArgumentException("offsetsIn is null");
+        if (!ArrayFunctions.validationOffsets(offsetsIn, ascii.length))
+            throw new IllegalArgumentException("offsetsIn can't reference effective records of ascii");
+        if (offsetsOut == null)
+            throw new IllegalArgumentException("offsetsOut is null");
+        if (offsetsOut.length != offsetsIn.length)
+            throw new IllegalArgumentException("offsetsOut does not have the same length as offsetsIn");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        if (getLineLength() != 0)
+            return decodeLinesBatchWithoutArgumentsValidation(null, ascii, offsetsIn, offsetsOut);
+        int n = offsetsIn.length - 1;
+        offsetsOut[0] = 0;
+        for (int i = 0; i < n; i++) {
+            int offset = offsetsIn[i], length = offsetsIn[i + 1] - offset;
+            int count = tryGetDecodeCountFromAsciiWithoutArgumentsValidation(ascii, offset, length);
+            if (count < 0)
+                throw newInvalidSequenceException(indexOfInvalidAsciiCharacterWithoutArgumentsValidation(ascii, offset, length));
+            offsetsOut[i + 1] = offsetsOut[i] + count;
+        }
+        byte[] bytes = new byte[offsetsOut[n]];
+        for (int i = 0; i < n; i++) {
+            int offset = offsetsIn[i], length = offsetsIn[i + 1] - offset;
+            if (tryDecodeFromAsciiWithoutArgumentsValidation(ascii, offset, length, bytes, offsetsOut[i]) < 0)
+                throw newInvalidSequenceException(indexOfInvalidAsciiCharacterWithoutArgumentsValidation(ascii, offset, length));
+        }
+        return bytes;
+    }
+
+    private byte[] decodeLinesBatchWithoutArgumentsValidation(char[] charsIn, byte[] asciiIn, int[] offsetsIn, int[] offsetsOut) {
+        // the separators of every record are skipped, the sizes are counted first so the records are decoded in place
+        boolean[] separators = getSeparatorTable();
+        int n = offsetsIn.length - 1;
+        offsetsOut[0] = 0;
+        for (int i = 0; i < n; i++) {
+            int offset = offsetsIn[i], length = offsetsIn[i + 1] - offset;
+            int count = tryGetLinesDecodeCount(charsIn, null, asciiIn, offset, length, getSignificantCount(charsIn, null, asciiIn, offset, length, separators), separators);
+            if (count < 0)
+                throw newInvalidSequenceException(indexOfInvalidLinesCharacter(charsIn, null, asciiIn, offset, length, separators));
+            offsetsOut[i + 1] = offsetsOut[i] + count;
+        }
+        byte[] bytes = new byte[offsetsOut[n]];
+        for (int i = 0; i < n; i++) {
+            int offset = offsetsIn[i], length = offsetsIn[i + 1] - offset;
+            if (tryDecodeLinesWithoutArgumentsValidation(charsIn, null, asciiIn, offset, length, bytes, offsetsOut[i], separators) < 0)
+                throw newInvalidSequenceException(indexOfInvalidLinesCharacter(charsIn, null, asciiIn, offset, length, separators));
+        }
+        return bytes;
+    }
+
+    private int getBatchEncodeCount(int[] offsetsIn, int[] offsetsOut) {
+        long count = 0;
+        offsetsOut[0] = 0;
+        for (int i = 1; i < offsetsIn.length; i++) {
+            count += getLinesEncodeCount(offsetsIn[i] - offsetsIn[i - 1], 0);
+            if (count > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("output sequence is too long");
+            offsetsOut[i] = (int) count;
+        }
+        return (int) count;
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), parallel encode and decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, encodes all the bytes in the specified byte array into a set of characters by the shared executor of the library. <br />
+     * The sequence is split into parts at quantum boundaries, which are encoded concurrently into disjoint regions of the result. Short sequences are encoded in the calling thread. <br />
+     * The calling thread encodes the parts no worker has started, so it can be called from a task running on the executor itself.
+     *
+     * @param bytes The byte array containing the sequence of bytes to encode.
+     * @return A character array containing the results of encoding the specified sequence of bytes.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public char[] encodeParallel(byte[] bytes) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        return encodeParallelWithoutArgumentsValidation(bytes, 0, bytes.length, ParallelFunctions.getDefaultExecutor());
+    }
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into a set of characters by the specified executor. <br />
+     * The sequence is split into parts at quantum boundaries, which are encoded concurrently into disjoint regions of the result. Short sequences are encoded in the calling thread. <br />
+     * The calling thread encodes the parts no worker has started, so it can be called from a task running on the executor itself.
+     *
+     * @param bytes    The byte array containing the sequence of bytes to encode.
+     * @param offset   The index of the first byte to encode.
+     * @param length   The number of bytes to encode.
+     * @param executor The executor to run the parts.
+     * @return A character array containing the results of encoding the specified sequence of bytes.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public char[] encodeParallel(byte[] bytes, int offset, int length, ExecutorService executor) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!ArrayFunctions.validationInterval(bytes, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        if (executor == null)
+            throw new IllegalArgumentException("executor is null");
+        return encodeParallelWithoutArgumentsValidation(bytes, offset, length, executor);
+    }
+
+    private char[] encodeParallelWithoutArgumentsValidation(final byte[] bytes, final int offset, final int length, ExecutorService executor) {
+        int chunks = ParallelFunctions.getChunkCount(length / getBytesPerQuantum(), PARALLEL_CHUNK_QUANTA);
+        if (chunks < 2)
+            return encodeLinesWithoutArgumentsValidation(bytes, offset, length);
+        final char[] chars = new char[getLinesEncodeCount(length, 0)];
+        // the parts are split at line boundaries, the lines are the quanta if the output is not wrapped
+        int lineIn = getBytesPerLine(), lines = length / lineIn;
+        List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int start = (int) ((long) lines * i / chunks) * lineIn;
+            // the last part takes the partial line as well
+            final int lengthIn = i == chunks - 1 ? length - start : (int) ((long) lines * (i + 1) / chunks) * lineIn - start;
+            final int offsetOut = getLinesEncodeCount(start, 0), column = getLineColumn(0, start);
+            tasks.add(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return encodeLinesWithoutArgumentsValidation(bytes, offset + start, lengthIn, chars, null, offsetOut, column);
+                }
+            });
+        }
+        ParallelFunctions.invokeAll(executor, tasks);
+        return chars;
+    }
+
+
+    /**
+     * When overridden in a derived class, decodes all the characters in the specified character array into a sequence of bytes by the shared executor of the library. <br />
+     * The set is split into parts at quantum boundaries, or after the separators if the encoding is wrapped, which are validated and decoded concurrently into disjoint regions of the result.
+     * Short sets, and the wrapped sets whose lines are not whole quanta, are decoded in the calling thread. <br />
+     * The calling thread decodes the parts no worker has started, so it can be called from a task running on the executor itself.
+     *
+     * @param chars The character array containing the characters to decode.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     * @throws IllegalArgumentException Arguments error, or the set of characters is not a valid base sequence, the message tells the index of the first invalid character.
+     */
+    public byte[] decodeParallel(char[] chars) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        return decodeParallelWithoutArgumentsValidation(chars, 0, chars.length, ParallelFunctions.getDefaultExecutor());
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character array into a sequence of bytes by the specified executor. <br />
+     * The set is split into parts at quantum boundaries, or after the separators if the encoding is wrapped, which are validated and decoded concurrently into disjoint regions of the result.
+     * Short sets, and the wrapped sets whose lines are not whole quanta, are decoded in the calling thread. <br />
+     * The calling thread decodes the parts no worker has started, so it can be called from a task running on the executor itself.
+     *
+     * @param chars    The character array containing the set of characters to decode.
+     * @param offset   The index of the first character to decode.
+     * @param length   The number of characters to decode.
+     * @param executor The executor to run the parts.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     * @throws IllegalArgumentException Arguments error, or the set of characters is not a valid base sequence, the message tells the index of the first invalid character.
+     */
+    public byte[] decodeParallel(char[] chars, int offset, int length, ExecutorService executor) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (!ArrayFunctions.validationInterval(chars, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
+        if (executor == null)
+            throw new IllegalArgumentException("executor is null");
+        return decodeParallelWithoutArgumentsValidation(chars, offset, length, executor);
+    }
+
+    private byte[] decodeParallelWithoutArgumentsValidation(final char[] chars, final int offset, final int length, ExecutorService executor) {
+        final int quantumIn = getCharsPerQuantum(), quantumOut = getBytesPerQuantum();
+        int chunks = ParallelFunctions.getChunkCount(length / quantumIn, PARALLEL_CHUNK_QUANTA);
+        if (getLineLength() != 0)
+            return decodeLinesParallelWithoutArgumentsValidation(chars, offset, length, chunks, executor);
+        // the size and the padding are checked without exceptions, the position of an error is found by the validation core
+        int count = tryGetDecodeCountWithoutArgumentsValidation(CharBuffer.wrap(chars), offset, length);
+        if (count < 0)
+            throw newInvalidSequenceException(indexOfInvalidCharacterWithoutArgumentsValidation(chars, offset, length));
+        final byte[] bytes = new byte[count];
+        if (chunks < 2) {
+            if (tryDecodeWithoutArgumentsValidation(chars, offset, length, bytes, 0) < 0)
+                throw newInvalidSequenceException(indexOfInvalidCharacterWithoutArgumentsValidation(chars, offset, length));
+            return bytes;
+        }
+        int quanta = length / quantumIn;
+        List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int startQuantum = (int) ((long) quanta * i / chunks);
+            final boolean last = i == chunks - 1;
+            // the last part takes the partial quantum of the unpadded sequences as well
+            final int lengthIn = last ? length - startQuantum * quantumIn : ((int) ((long) quanta * (i + 1) / chunks) - startQuantum) * quantumIn;
+            tasks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    int lengthOut = tryDecodeWithoutArgumentsValidation(chars, offset + startQuantum * quantumIn, lengthIn, bytes, startQuantum * quantumOut);
+                    // only the last part could end with a padded or partial quantum
+                    return last ? lengthOut >= 0 : lengthOut == lengthIn / quantumIn * quantumOut;
+                }
+            });
+        }
+        List<Boolean> results = ParallelFunctions.invokeAll(executor, tasks);
+        for (int i = 0; i < chunks; i++) {
+            if (!results.get(i)) {
+                int start = offset + (int) ((long) quanta * i / chunks) * quantumIn;
+                throw newInvalidSequenceException(indexOfInvalidCharacterWithoutArgumentsValidation(chars, start, offset + length - start));
+            }
+        }
+        return bytes;
+    }
+
+    private byte[] decodeLinesParallelWithoutArgumentsValidation(final char[] chars, final int offset, final int length, int chunks, ExecutorService executor) {
+        final boolean[] separators = getSeparatorTable();
+        if (chunks < 2)
+            return decodeLinesWithoutArgumentsValidation(chars, null, null, offset, length);
+        final int quantumIn = getCharsPerQuantum(), quantumOut = getBytesPerQuantum(), bound = offset + length;
+        // the parts are split after the separators, so every part but the last one is a number of whole lines
+        final int[] starts = new int[chunks + 1];
+        starts[0] = offset;
+        starts[chunks] = bound;
+        for (int i = 1; i < chunks; i++) {
+            int end = indexOfIgnorable(chars, null, null, Math.max(offset + (int) ((long) length * i / chunks), starts[i - 1]), bound, separators, true);
+            starts[i] = indexOfIgnorable(chars, null, null, end, bound, separators, false);
+        }
+        List<Callable<Integer>> counts = new ArrayList<Callable<Integer>>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int start = starts[i], lengthIn = starts[i + 1] - start;
+            counts.add(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return getSignificantCount(chars, null, null, start, lengthIn, separators);
+                }
+            });
+        }
+        List<Integer> results = ParallelFunctions.invokeAll(executor, counts);
+        final int[] offsetsOut = new int[chunks + 1];
+        int significant = 0;
+        for (int i = 0; i < chunks; i++) {
+            offsetsOut[i] = significant / quantumIn * quantumOut;
+            significant += results.get(i);
+            // the lines which are not whole quanta leave quanta split between the parts, the set is decoded in the calling thread
+            if (i != chunks - 1 && significant % quantumIn != 0)
+                return decodeLinesWithoutArgumentsValidation(chars, null, null, offset, length);
+        }
+        int count = tryGetLinesDecodeCount(chars, null, null, offset, length, significant, separators);
+        if (count < 0)
+            throw newInvalidSequenceException(indexOfInvalidLinesCharacter(chars, null, null, offset, length, separators));
+        offsetsOut[chunks] = count;
+        final byte[] bytes = new byte[count];
+        List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            final int start = starts[i], lengthIn = starts[i + 1] - start, offsetOut = offsetsOut[i], lengthOut = offsetsOut[i + 1] - offsetOut;
+            tasks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    // a padded quantum before the end of the set makes the result shorter
+                    return tryDecodeLinesWithoutArgumentsValidation(chars, null, null, start, lengthIn, bytes, offsetOut, separators) == lengthOut;
+                }
+            });
+        }
+        List<Boolean> decoded = ParallelFunctions.invokeAll(executor, tasks);
+        for (int i = 0; i < chunks; i++) {
+            if (!decoded.get(i))
+                throw newInvalidSequenceException(indexOfInvalidLinesCharacter(chars, null, null, starts[i], bound - starts[i], separators));
+        }
+        return bytes;
+    }
+
+    private static IllegalArgumentException newInvalidSequenceException(int index) {
+        return new IllegalArgumentException("input sequence is not a valid base sequence, the first invalid character is at index " + index);
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), file encode and decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, encodes all the bytes of the specified file into the specified file as ASCII characters. <br />
+     * The input file is mapped and encoded window by window, the memory used does not depend on the size of the file, files larger than 2 GB are supported. <br />
+     * The output file is created or truncated.
+     *
+     * @param in  The file containing the sequence of bytes to encode.
+     * @param out The file to contain the resulting set of ASCII characters.
+     * @throws IOException                   If an I/O error occurs.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public void encodeFile(File in, File out) throws IOException {
+        if (in == null)
+            throw new IllegalArgumentException("in is null");
+        if (out == null)
+            throw new IllegalArgumentException("out is null");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        FileInputStream input = new FileInputStream(in);
+        try {
+            FileOutputStream output = new FileOutputStream(out);
+            try {
+                FileChannel channelIn = input.getChannel(), channelOut = output.getChannel();
+                long size = channelIn.size();
+                // the windows are whole lines, every window after the first one starts with a separator
+                int lineIn = getBytesPerLine(), windowIn = Math.max(FILE_WINDOW_QUANTA * getBytesPerQuantum() / lineIn, 1) * lineIn;
+                ByteBuffer bufferOut = ByteBuffer.allocateDirect(getLinesEncodeCount(windowIn, getLineLength()));
+                for (long position = 0; position < size; position += windowIn) {
+                    int lengthIn = (int) Math.min(windowIn, size - position);
+                    ByteBuffer bufferIn = channelIn.map(FileChannel.MapMode.READ_ONLY, position, lengthIn);
+                    bufferOut.clear();
+                    bufferOut.limit(encodeLinesWithoutArgumentsValidation(bufferIn, 0, lengthIn, null, bufferOut, 0, position == 0 ? 0 : getLineLength()));
+                    while (bufferOut.hasRemaining())
+                        channelOut.write(bufferOut);
+                }
+            } finally {
+                output.close();
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * When overridden in a derived class, decodes all the ASCII characters of the specified file into the specified file. <br />
+     * The input file is mapped and decoded window by window, the memory used does not depend on the size of the file, files larger than 2 GB are supported. <br />
+     * The output file is created or truncated, it could contain a part of the result if the input file is not a valid base sequence.
+     *
+     * @param in  The file containing the set of ASCII characters to decode.
+     * @param out The file to contain the resulting sequence of bytes.
+     * @throws IOException                   If an I/O error occurs.
+     * @throws IllegalArgumentException      Arguments error, or the input file is not a valid base sequence.
+     * @throws UnsupportedOperationException If the current encoding is not ASCII compatible.
+     */
+    public void decodeFile(File in, File out) throws IOException {
+        if (in == null)
+            throw new IllegalArgumentException("in is null");
+        if (out == null)
+            throw new IllegalArgumentException("out is null");
+        if (!isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+        FileInputStream input = new FileInputStream(in);
+        try {
+            FileOutputStream output = new FileOutputStream(out);
+            try {
+                FileChannel channelIn = input.getChannel(), channelOut = output.getChannel();
+                long size = channelIn.size();
+                if (getLineLength() != 0) {
+                    decodeLinesFile(channelIn, channelOut, size);
+                    return;
+                }
+                int quantumIn = getCharsPerQuantum(), quantumOut = getBytesPerQuantum(), windowIn = FILE_WINDOW_QUANTA * quantumIn;
+                if (size % quantumIn != 0 && isPaddingRequired())
+                    throw new IllegalArgumentException("input sequence is not a valid base sequence");
+                ByteBuffer bufferOut = ByteBuffer.allocateDirect(FILE_WINDOW_QUANTA * quantumOut);
+                for (long position = 0; position < size; position += windowIn) {
+                    int lengthIn = (int) Math.min(windowIn, size - position);
+                    ByteBuffer bufferIn = channelIn.map(FileChannel.MapMode.READ_ONLY, position, lengthIn);
+                    bufferOut.clear();
+                    int lengthOut = decodeFromAsciiWithoutArgumentsValidation(bufferIn, 0, lengthIn, bufferOut, 0);
+                    // only the last window could end with a padded or partial quantum
+                    if (lengthOut != lengthIn / quantumIn * quantumOut && position + lengthIn != size)
+                        throw new IllegalArgumentException("input sequence is not a valid base sequence");
+                    bufferOut.limit(lengthOut);
+                    while (bufferOut.hasRemaining())
+                        channelOut.write(bufferOut);
+                }
+            } finally {
+                output.close();
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    private void decodeLinesFile(FileChannel channelIn, FileChannel channelOut, long size) throws IOException {
+        // the windows of a wrapped encoding are decoded by a decoder, which skips the separators and joins the quanta split by them
+        int windowIn = FILE_WINDOW_QUANTA * getCharsPerQuantum();
+        BaseDecoder decoder = newDecoder();
+        byte[] asciiIn = new byte[(int) Math.min(windowIn, size)], bytesOut = new byte[FILE_WINDOW_QUANTA * getBytesPerQuantum()];
+        for (long position = 0; position < size; position += windowIn) {
+            int lengthIn = (int) Math.min(windowIn, size - position);
+            channelIn.map(FileChannel.MapMode.READ_ONLY, position, lengthIn).get(asciiIn, 0, lengthIn);
+            writeFully(channelOut, bytesOut, decoder.updateLinesWithoutArgumentsValidation(null, null, asciiIn, 0, lengthIn, bytesOut, 0));
+        }
+        writeFully(channelOut, bytesOut, decoder.finishWithoutArgumentsValidation(bytesOut, 0));
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), fixed-width encode and decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, encodes the specified long as its 8 big-endian bytes into a string.
+     *
+     * @param value The long to encode.
+     * @return A string containing getEncodeCount(8) characters.
+     */
+    public String encodeLong(long value) {
+        char[] chars = new char[getEncodeCountWithoutArgumentsValidation(8)];
+        encodeLongWithoutArgumentsValidation(value, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * When overridden in a derived class, encodes the specified long as its 8 big-endian bytes into the specified character array, no temporary object is allocated.
+     *
+     * @param value     The long to encode.
+     * @param charsOut  The character array to contain the resulting set of characters, it must have enough capacity for getEncodeCount(8) characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int encodeLong(long value, char[] charsOut, int offsetOut) {
+        if (charsOut == null)
+            throw new IllegalArgumentException("charsOut is null");
+        if (!ArrayFunctions.validationInterval(charsOut, offsetOut, getEncodeCountWithoutArgumentsValidation(8)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encodeLongWithoutArgumentsValidation(value, charsOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, encodes the specified UUID as its 16 big-endian bytes into a string.
+     *
+     * @param uuid The UUID to encode.
+     * @return A string containing getEncodeCount(16) characters.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public String encodeUuid(UUID uuid) {
+        if (uuid == null)
+            throw new IllegalArgumentException("uuid is null");
+        char[] chars = new char[getEncodeCountWithoutArgumentsValidation(16)];
+        encodeUuidWithoutArgumentsValidation(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * When overridden in a derived class, encodes the specified UUID as its 16 big-endian bytes into the specified character array, no temporary object is allocated.
+     *
+     * @param uuid      The UUID to encode.
+     * @param charsOut  The character array to contain the resulting set of characters, it must have enough capacity for getEncodeCount(16) characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public int encodeUuid(UUID uuid, char[] charsOut, int offsetOut) {
+        if (uuid == null)
+            throw new IllegalArgumentException("uuid is null");
+        if (charsOut == null)
+            throw new IllegalArgumentException("charsOut is null");
+        if (!ArrayFunctions.validationInterval(charsOut, offsetOut, getEncodeCountWithoutArgumentsValidation(16)))
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encodeUuidWithoutArgumentsValidation(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), charsOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, decodes the specified character sequence, which must be the encoding of exactly 8 bytes, into a long.
+     *
+     * @param chars The character sequence of getEncodeCount(8) characters to decode.
+     * @return The long of the 8 decoded big-endian bytes.
+     * @throws IllegalArgumentException Arguments error, or the characters are not a valid base sequence of 8 bytes.
+     */
+    public long decodeLong(CharSequence chars) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (chars.length() != getEncodeCountWithoutArgumentsValidation(8))
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return decodeLongWithoutArgumentsValidation(chars, 0);
+    }
+
+    /**
+     * When overridden in a derived class, decodes getEncodeCount(8) characters from the specified character array into a long, no temporary object is allocated.
+     *
+     * @param charsIn  The character array containing the characters to decode.
+     * @param offsetIn The index of the first character to decode.
+     * @return The long of the 8 decoded big-endian bytes.
+     * @throws IllegalArgumentException Arguments error, or the characters are not a valid base sequence of 8 bytes.
+     */
+    public long decodeLong(char[] charsIn, int offsetIn) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, getEncodeCountWithoutArgumentsValidation(8)))
+            throw new IllegalArgumentException("input sequence does not have enough characters");
+        return decodeLongWithoutArgumentsValidation(charsIn, offsetIn);
+    }
+
+    /**
+     * When overridden in a derived class, decodes the specified character sequence, which must be the encoding of exactly 16 bytes, into a UUID.
+     *
+     * @param chars The character sequence of getEncodeCount(16) characters to decode.
+     * @return The UUID of the 16 decoded big-endian bytes.
+     * @throws IllegalArgumentException Arguments error, or the characters are not a valid base sequence of 16 bytes.
+     */
+    public UUID decodeUuid(CharSequence chars) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (chars.length() != getEncodeCountWithoutArgumentsValidation(16))
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return decodeUuidWithoutArgumentsValidation(chars, 0);
+    }
+
+    /**
+     * When overridden in a derived class, decodes getEncodeCount(16) characters from the specified character array into a UUID.
+     *
+     * @param charsIn  The character array containing the characters to decode.
+     * @param offsetIn The index of the first character to decode.
+     * @return The UUID of the 16 decoded big-endian bytes.
+     * @throws IllegalArgumentException Arguments error, or the characters are not a valid base sequence of 16 bytes.
+     */
+    public UUID decodeUuid(char[] charsIn, int offsetIn) {
+        if (charsIn == null)
+            throw new IllegalArgumentException("charsIn is null");
+        if (!ArrayFunctions.validationInterval(charsIn, offsetIn, getEncodeCountWithoutArgumentsValidation(16)))
+            throw new IllegalArgumentException("input sequence does not have enough characters");
+        return decodeUuidWithoutArgumentsValidation(charsIn, offsetIn);
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), incremental encode and decode methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, creates a new stateful encoder of the current encoding, which encodes a sequence of bytes that is supplied in arbitrary parts.
+     *
+     * @return A new encoder in its initial state.
+     * @see BaseEncoder
+     */
+    public BaseEncoder newEncoder() {
+        return new BaseEncoder(this);
+    }
+
+    /**
+     * When overridden in a derived class, creates a new stateful decoder of the current encoding, which decodes a set of characters that is supplied in arbitrary parts.
+     *
+     * @return A new decoder in its initial state.
+     * @see BaseDecoder
+     */
+    public BaseDecoder newDecoder() {
+        return new BaseDecoder(this);
+    }
+
+
+    /*
+     *
+     * virtual(could be overridden), utility methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified character array is actually valid by current encoding.
+     *
+     * @param chars  The character array containing the set of characters to validate.
+     * @param offset The index of the first character to validate.
+     * @param length The number of characters to validate.
+     * @return Returns true if the specified character array is valid.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public boolean isValidBaseSequence(char[] chars, int offset, int length) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (!ArrayFunctions.validationInterval(chars, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
+        return isValidLinesWithoutArgumentsValidation(chars, null, null, offset, length);
+    }
+
+    /**
+     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified character sequence is actually valid by current encoding. <br />
+     * The characters are read by index, the character sequence is not copied.
+     *
+     * @param chars  The character sequence(String, StringBuilder, CharBuffer, etc.) containing the set of characters to validate.
+     * @param offset The index of the first character to validate.
+     * @param length The number of characters to validate.
+     * @return Returns true if the specified set of characters is valid.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public boolean isValidBaseSequence(CharSequence chars, int offset, int length) {
+        if (chars == null)
+            throw new IllegalArgumentException("chars is null");
+        if (!ArrayFunctions.validationInterval(chars, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of chars");
+        return isValidLinesWithoutArgumentsValidation(null, chars, null, offset, length);
+    }
+
+    /**
+     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified string is actually valid by current encoding.
+     *
+     * @param s The string containing the set of characters to validate.
+     * @return Returns true if the specified character array is valid.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public boolean isValidBaseString(String s) {
+        if (s == null)
+            throw new IllegalArgumentException("s is null");
+        return isValidLinesWithoutArgumentsValidation(null, s, null, 0, s.length());
+    }
+
+
+    /*
+     *
+     * abstract, core methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, calculates the number of characters produced by encoding the sequence of bytes specified length from byte array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param length The number of bytes to encode.
+     * @return The number of characters produced by encoding the sequence of bytes specified length.
+     */
+    protected abstract int getEncodeCountWithoutArgumentsValidation(int length);
+
+    /**
+     * When overridden in a derived class, encodes all the bytes in the specified byte array into a set of characters. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param bytes  The byte array containing the sequence of bytes to encode.
+     * @param offset The index of the first byte to encode.
+     * @param length The number of bytes to encode.
+     * @return A character array containing the results of encoding the specified sequence of bytes.
+     */
+    protected abstract char[] encodeWithoutArgumentsValidation(byte[] bytes, int offset, int length);
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into the specified character array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param bytesIn   The byte array containing the sequence of bytes to encode.
+     * @param offsetIn  The index of the first byte to encode.
+     * @param lengthIn  The number of bytes to encode.
+     * @param charsOut  The character array to contain the resulting set of characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into chars.
+     */
+    protected abstract int encodeWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut);
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of characters from the specified character array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character array containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return The number of bytes produced by decoding the specified characters.
+     */
+    protected abstract int getDecodeCountWithoutArgumentsValidation(char[] chars, int offset, int length);
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character array into a sequence of bytes. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character array containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     */
+    protected abstract byte[] decodeWithoutArgumentsValidation(char[] chars, int offset, int length);
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character array into the specified byte array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param charsIn   The character array containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytes.
+     */
+    protected abstract int decodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut);
+
+    /**
+     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified character array is actually valid by current encoding. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character array containing the set of characters to validate.
+     * @param offset The index of the first character to validate.
+     * @param length The number of characters to validate.
+     * @return Returns true if the specified character array is valid.
+     */
+    protected abstract boolean isValidBaseSequenceWithoutArgumentsValidation(char[] chars, int offset, int length);
+
+
+    /*
+     *
+     * virtual(could be overridden), core methods
+     *
+     */
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into a set of ASCII characters. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param bytes  The byte array containing the sequence of bytes to encode.
+     * @param offset The index of the first byte to encode.
+     * @param length The number of bytes to encode.
+     * @return A byte array containing the ASCII characters of encoding the specified sequence of bytes.
+     */
+    protected byte[] encodeToAsciiWithoutArgumentsValidation(byte[] bytes, int offset, int length) {
+        return toAscii(encodeWithoutArgumentsValidation(bytes, offset, length));
+    }
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified byte array into the specified byte array as ASCII characters. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param bytesIn   The byte array containing the sequence of bytes to encode.
+     * @param offsetIn  The index of the first byte to encode.
+     * @param lengthIn  The number of bytes to encode.
+     * @param asciiOut  The byte array to contain the resulting set of ASCII characters.
+     * @param offsetOut The index at which to start writing the resulting set of ASCII characters.
+     * @return The actual number of ASCII characters written into asciiOut.
+     */
+    protected int encodeToAsciiWithoutArgumentsValidation(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        char[] chars = encodeWithoutArgumentsValidation(bytesIn, offsetIn, lengthIn);
+        for (int i = 0; i < chars.length; i++)
+            asciiOut[offsetOut + i] = (byte) chars[i];
+        return chars.length;
+    }
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of ASCII characters from the specified byte array. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param ascii  The byte array containing the set of ASCII characters to decode.
+     * @param offset The index of the first ASCII character to decode.
+     * @param length The number of ASCII characters to decode.
+     * @return The number of bytes produced by decoding the specified ASCII characters.
+     */
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return getDecodeCountWithoutArgumentsValidation(toChars(ascii, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified byte array into a sequence of bytes. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param ascii  The byte array containing the set of ASCII characters to decode.
+     * @param offset The index of the first ASCII character to decode.
+     * @param length The number of ASCII characters to decode.
+     * @return A byte array containing the results of decoding the specified set of ASCII characters.
+     */
+    protected byte[] decodeFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return decodeWithoutArgumentsValidation(toChars(ascii, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified byte array into the specified byte array. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param asciiIn   The byte array containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
      * @param offsetOut The index at which to start writing the resulting sequence of bytes.
-     * @return The actual number of bytes written into bytes.
+     * @return The actual number of bytes written into bytesOut.
      */
-    protected abstract int decodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut);
+    protected int decodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return decodeWithoutArgumentsValidation(toChars(asciiIn, offsetIn, lengthIn), 0, lengthIn, bytesOut, offsetOut);
+    }
 
     /**
-     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified character array is actually valid by current encoding. <br />
+     * When overridden in a derived class, gets a value indicating whether a set of ASCII characters from the specified byte array is actually valid by current encoding. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param ascii  The byte array containing the set of ASCII characters to validate.
+     * @param offset The index of the first ASCII character to validate.
+     * @param length The number of ASCII characters to validate.
+     * @return Returns true if the specified ASCII characters are valid.
+     */
+    protected boolean isValidAsciiSequenceWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        return isValidBaseSequenceWithoutArgumentsValidation(toChars(ascii, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified buffer into the specified character buffer. <br />
+     * Indexes are absolute indexes of the buffers, the positions of the buffers are not changed. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param bytesIn   The buffer containing the sequence of bytes to encode.
+     * @param offsetIn  The index of the first byte to encode.
+     * @param lengthIn  The number of bytes to encode.
+     * @param charsOut  The buffer to contain the resulting set of characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     */
+    protected int encodeWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        char[] chars = encodeWithoutArgumentsValidation(toBytes(bytesIn, offsetIn, lengthIn), 0, lengthIn);
+        if (chars.length > charsOut.limit() - offsetOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        for (int i = 0; i < chars.length; i++)
+            charsOut.put(offsetOut + i, chars[i]);
+        return chars.length;
+    }
+
+    /**
+     * When overridden in a derived class, encodes a sequence of bytes from the specified buffer into the specified buffer as ASCII characters. <br />
+     * Indexes are absolute indexes of the buffers, the positions of the buffers are not changed. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param bytesIn   The buffer containing the sequence of bytes to encode.
+     * @param offsetIn  The index of the first byte to encode.
+     * @param lengthIn  The number of bytes to encode.
+     * @param asciiOut  The buffer to contain the resulting set of ASCII characters.
+     * @param offsetOut The index at which to start writing the resulting set of ASCII characters.
+     * @return The actual number of ASCII characters written into asciiOut.
+     */
+    protected int encodeToAsciiWithoutArgumentsValidation(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        byte[] ascii = toAscii(encodeWithoutArgumentsValidation(toBytes(bytesIn, offsetIn, lengthIn), 0, lengthIn));
+        return put(ascii, asciiOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of characters from the specified buffer. <br />
+     * Indexes are absolute indexes of the buffer, the position of the buffer is not changed. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The buffer containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return The number of bytes produced by decoding the specified characters.
+     */
+    protected int getDecodeCountWithoutArgumentsValidation(CharBuffer chars, int offset, int length) {
+        return getDecodeCountWithoutArgumentsValidation(toChars(chars, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of ASCII characters from the specified buffer. <br />
+     * Indexes are absolute indexes of the buffer, the position of the buffer is not changed. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param ascii  The buffer containing the set of ASCII characters to decode.
+     * @param offset The index of the first ASCII character to decode.
+     * @param length The number of ASCII characters to decode.
+     * @return The number of bytes produced by decoding the specified ASCII characters.
+     */
+    protected int getDecodeCountFromAsciiWithoutArgumentsValidation(ByteBuffer ascii, int offset, int length) {
+        return getDecodeCountWithoutArgumentsValidation(toChars(toBytes(ascii, offset, length), 0, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified buffer into the specified byte buffer. <br />
+     * Indexes are absolute indexes of the buffers, the positions of the buffers are not changed. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param charsIn   The buffer containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The buffer to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     */
+    protected int decodeWithoutArgumentsValidation(CharBuffer charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return put(decodeWithoutArgumentsValidation(toChars(charsIn, offsetIn, lengthIn), 0, lengthIn), bytesOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified buffer into the specified byte buffer. <br />
+     * Indexes are absolute indexes of the buffers, the positions of the buffers are not changed. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param asciiIn   The buffer containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The buffer to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     */
+    protected int decodeFromAsciiWithoutArgumentsValidation(ByteBuffer asciiIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        return put(decodeWithoutArgumentsValidation(toChars(toBytes(asciiIn, offsetIn, lengthIn), 0, lengthIn), 0, lengthIn), bytesOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of characters from the specified character sequence. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return The number of bytes produced by decoding the specified characters.
+     */
+    protected int getDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return getDecodeCountWithoutArgumentsValidation(toChars(chars, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character sequence into a sequence of bytes. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return A byte array containing the results of decoding the specified set of characters.
+     */
+    protected byte[] decodeWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return decodeWithoutArgumentsValidation(toChars(chars, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character sequence into the specified byte array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param charsIn   The character sequence containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut.
+     */
+    protected int decodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return decodeWithoutArgumentsValidation(toChars(charsIn, offsetIn, lengthIn), 0, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, gets a value indicating whether a set of characters from the specified character sequence is actually valid by current encoding. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the set of characters to validate.
+     * @param offset The index of the first character to validate.
+     * @param length The number of characters to validate.
+     * @return Returns true if the specified set of characters is valid.
+     */
+    protected boolean isValidBaseSequenceWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        return isValidBaseSequenceWithoutArgumentsValidation(toChars(chars, offset, length), 0, length);
+    }
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of characters from the specified character sequence without throwing exceptions for invalid sequences. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the set of characters to decode.
+     * @param offset The index of the first character to decode.
+     * @param length The number of characters to decode.
+     * @return The number of bytes produced by decoding the specified characters, or -1 if the length or the padding of the characters is invalid.
+     */
+    protected int tryGetDecodeCountWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        try {
+            return getDecodeCountWithoutArgumentsValidation(toChars(chars, offset, length), 0, length);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * When overridden in a derived class, calculates the number of bytes produced by decoding a set of ASCII characters from the specified byte array without throwing exceptions for invalid sequences. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param ascii  The byte array containing the set of ASCII characters to decode.
+     * @param offset The index of the first ASCII character to decode.
+     * @param length The number of ASCII characters to decode.
+     * @return The number of bytes produced by decoding the specified ASCII characters, or -1 if the length or the padding of the characters is invalid.
+     */
+    protected int tryGetDecodeCountFromAsciiWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        try {
+            return getDecodeCountFromAsciiWithoutArgumentsValidation(ascii, offset, length);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character array into the specified byte array without throwing exceptions for invalid sequences. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param charsIn   The character array containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut, or -1 if the set of characters is not a valid base sequence.
+     */
+    protected int tryDecodeWithoutArgumentsValidation(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        try {
+            return decodeWithoutArgumentsValidation(charsIn, offsetIn, lengthIn, bytesOut, offsetOut);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of characters from the specified character sequence into the specified byte array without throwing exceptions for invalid sequences. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param charsIn   The character sequence containing the set of characters to decode.
+     * @param offsetIn  The index of the first character to decode.
+     * @param lengthIn  The number of characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut, or -1 if the set of characters is not a valid base sequence.
+     */
+    protected int tryDecodeWithoutArgumentsValidation(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return tryDecodeWithoutArgumentsValidation(toChars(charsIn, offsetIn, lengthIn), 0, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, decodes a set of ASCII characters from the specified byte array into the specified byte array without throwing exceptions for invalid sequences. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param asciiIn   The byte array containing the set of ASCII characters to decode.
+     * @param offsetIn  The index of the first ASCII character to decode.
+     * @param lengthIn  The number of ASCII characters to decode.
+     * @param bytesOut  The byte array to contain the resulting sequence of bytes.
+     * @param offsetOut The index at which to start writing the resulting sequence of bytes.
+     * @return The actual number of bytes written into bytesOut, or -1 if the set of ASCII characters is not a valid base sequence.
+     */
+    protected int tryDecodeFromAsciiWithoutArgumentsValidation(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        return tryDecodeWithoutArgumentsValidation(toChars(asciiIn, offsetIn, lengthIn), 0, lengthIn, bytesOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, finds the first character which makes a set of characters from the specified character array invalid. <br />
      * No need to verify the correctness of the arguments.
      *
      * @param chars  The character array containing the set of characters to validate.
      * @param offset The index of the first character to validate.
      * @param length The number of characters to validate.
-     * @return Returns true if the specified character array is valid.
+     * @return The absolute index of the first invalid character, or -1 if the set of characters is valid.
      */
-    protected abstract boolean isValidBaseSequenceWithoutArgumentsValidation(char[] chars, int offset, int length);
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(char[] chars, int offset, int length) {
+        if (isValidBaseSequenceWithoutArgumentsValidation(chars, offset, length))
+            return -1;
+        char[] alphabet = getAlphabet();
+        char padding = getPaddingCharacter();
+        for (int i = offset; i < offset + length; i++) {
+            if (chars[i] != padding && indexOf(alphabet, chars[i]) < 0)
+                return i;
+        }
+        // every character is valid, the length or the padding is not
+        return offset + length;
+    }
+
+    /**
+     * When overridden in a derived class, finds the first character which makes a set of characters from the specified character sequence invalid. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the set of characters to validate.
+     * @param offset The index of the first character to validate.
+     * @param length The number of characters to validate.
+     * @return The absolute index of the first invalid character, or -1 if the set of characters is valid.
+     */
+    protected int indexOfInvalidCharacterWithoutArgumentsValidation(CharSequence chars, int offset, int length) {
+        int index = indexOfInvalidCharacterWithoutArgumentsValidation(toChars(chars, offset, length), 0, length);
+        return index < 0 ? index : offset + index;
+    }
+
+    /**
+     * When overridden in a derived class, finds the first ASCII character which makes a set of ASCII characters from the specified byte array invalid. <br />
+     * No need to verify the correctness of the arguments and the ASCII compatibility of current encoding.
+     *
+     * @param ascii  The byte array containing the set of ASCII characters to validate.
+     * @param offset The index of the first ASCII character to validate.
+     * @param length The number of ASCII characters to validate.
+     * @return The absolute index of the first invalid ASCII character, or -1 if the set of ASCII characters is valid.
+     */
+    protected int indexOfInvalidAsciiCharacterWithoutArgumentsValidation(byte[] ascii, int offset, int length) {
+        int index = indexOfInvalidCharacterWithoutArgumentsValidation(toChars(ascii, offset, length), 0, length);
+        return index < 0 ? index : offset + index;
+    }
+
+    /**
+     * When overridden in a derived class, encodes the specified long as its 8 big-endian bytes into the specified character array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param value     The long to encode.
+     * @param charsOut  The character array to contain the resulting set of characters.
+     * @param offsetOut The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     */
+    protected int encodeLongWithoutArgumentsValidation(long value, char[] charsOut, int offsetOut) {
+        byte[] bytes = new byte[8];
+        putLong(value, bytes, 0);
+        return encodeWithoutArgumentsValidation(bytes, 0, 8, charsOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, encodes the UUID of the specified bits as its 16 big-endian bytes into the specified character array. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param mostSigBits  The most significant 64 bits of the UUID.
+     * @param leastSigBits The least significant 64 bits of the UUID.
+     * @param charsOut     The character array to contain the resulting set of characters.
+     * @param offsetOut    The index at which to start writing the resulting set of characters.
+     * @return The actual number of characters written into charsOut.
+     */
+    protected int encodeUuidWithoutArgumentsValidation(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        byte[] bytes = new byte[16];
+        putLong(mostSigBits, bytes, 0);
+        putLong(leastSigBits, bytes, 8);
+        return encodeWithoutArgumentsValidation(bytes, 0, 16, charsOut, offsetOut);
+    }
+
+    /**
+     * When overridden in a derived class, decodes getEncodeCount(8) characters from the specified character array into a long. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character array containing the characters to decode.
+     * @param offset The index of the first character to decode.
+     * @return The long of the 8 decoded big-endian bytes.
+     * @throws IllegalArgumentException The characters are not a valid base sequence of 8 bytes.
+     */
+    protected long decodeLongWithoutArgumentsValidation(char[] chars, int offset) {
+        return getLong(decodeFixedWidth(chars, offset, 8), 0);
+    }
+
+    /**
+     * When overridden in a derived class, decodes getEncodeCount(8) characters from the specified character sequence into a long. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the characters to decode.
+     * @param offset The index of the first character to decode.
+     * @return The long of the 8 decoded big-endian bytes.
+     * @throws IllegalArgumentException The characters are not a valid base sequence of 8 bytes.
+     */
+    protected long decodeLongWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return decodeLongWithoutArgumentsValidation(toChars(chars, offset, getEncodeCountWithoutArgumentsValidation(8)), 0);
+    }
+
+    /**
+     * When overridden in a derived class, decodes getEncodeCount(16) characters from the specified character array into a UUID. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character array containing the characters to decode.
+     * @param offset The index of the first character to decode.
+     * @return The UUID of the 16 decoded big-endian bytes.
+     * @throws IllegalArgumentException The characters are not a valid base sequence of 16 bytes.
+     */
+    protected UUID decodeUuidWithoutArgumentsValidation(char[] chars, int offset) {
+        byte[] bytes = decodeFixedWidth(chars, offset, 16);
+        return new UUID(getLong(bytes, 0), getLong(bytes, 8));
+    }
+
+    /**
+     * When overridden in a derived class, decodes getEncodeCount(16) characters from the specified character sequence into a UUID. <br />
+     * No need to verify the correctness of the arguments.
+     *
+     * @param chars  The character sequence containing the characters to decode.
+     * @param offset The index of the first character to decode.
+     * @return The UUID of the 16 decoded big-endian bytes.
+     * @throws IllegalArgumentException The characters are not a valid base sequence of 16 bytes.
+     */
+    protected UUID decodeUuidWithoutArgumentsValidation(CharSequence chars, int offset) {
+        return decodeUuidWithoutArgumentsValidation(toChars(chars, offset, getEncodeCountWithoutArgumentsValidation(16)), 0);
+    }
+
+    private byte[] decodeFixedWidth(char[] chars, int offset, int count) {
+        byte[] bytes = decodeWithoutArgumentsValidation(chars, offset, getEncodeCountWithoutArgumentsValidation(count));
+        if (bytes.length != count)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return bytes;
+    }
+
+    private static void putLong(long value, byte[] bytes, int offset) {
+        for (int i = 7; i >= 0; i--, value >>>= 8)
+            bytes[offset + i] = (byte) value;
+    }
+
+    private static long getLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++)
+            value = value << 8 | bytes[offset + i] & 0xFF;
+        return value;
+    }
+
+    private static int indexOf(char[] chars, char c) {
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == c)
+                return i;
+        }
+        return -1;
+    }
+
+    private static char[] toChars(byte[] ascii, int offset, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++)
+            chars[i] = (char) (ascii[offset + i] & 0xFF);
+        return chars;
+    }
+
+    private static char[] toChars(CharSequence chars, int offset, int length) {
+        return chars.subSequence(offset, offset + length).toString().toCharArray();
+    }
+
+    private static char[] toChars(CharBuffer chars, int offset, int length) {
+        char[] copy = new char[length];
+        for (int i = 0; i < length; i++)
+            copy[i] = chars.get(offset + i);
+        return copy;
+    }
+
+    private static byte[] toBytes(ByteBuffer bytes, int offset, int length) {
+        byte[] copy = new byte[length];
+        for (int i = 0; i < length; i++)
+            copy[i] = bytes.get(offset + i);
+        return copy;
+    }
+
+    private static byte[] toAscii(char[] chars) {
+        byte[] ascii = new byte[chars.length];
+        for (int i = 0; i < chars.length; i++)
+            ascii[i] = (byte) chars[i];
+        return ascii;
+    }
+
+    private static int put(byte[] bytes, ByteBuffer bytesOut, int offsetOut) {
+        if (bytes.length > bytesOut.limit() - offsetOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        for (int i = 0; i < bytes.length; i++)
+            bytesOut.put(offsetOut + i, bytes[i]);
+        return bytes.length;
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,200 @@
+package wallf.basenencodings;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * An input stream that reads characters from an underlying reader, or ASCII characters from an underlying input stream,
+ * and returns the bytes decoded by a Base-N encoding. <br />
+ * The characters are decoded a whole quantum at a time, only the last quantum of the underlying input could contain padding, or be partial if the padding is optional. <br />
+ * The line separators of a wrapped encoding are skipped wherever they are. <br />
+ * The memory used is constant, it does not depend on the number of the read characters.
+ */
+public class DecodingInputStream extends InputStream {
+
+    private static final int BUFFER_QUANTA = 1024;
+
+    private final BaseEncoding encoding;
+    private final InputStream in;
+    private final Reader reader;
+    private final int charsPerQuantum;
+    private final int bytesPerQuantum;
+    private final char[] chars;
+    private final byte[] ascii;
+    private final boolean[] separators;
+    private int inputLength;
+    private final byte[] bytes;
+    private int bytesPosition;
+    private int bytesLimit;
+    private boolean padded;
+    private boolean eof;
+    private boolean closed;
+
+    /**
+     * Initializes a new instance of the DecodingInputStream class which reads ASCII characters from the specified input stream.
+     *
+     * @param encoding The encoding to decode the read ASCII characters.
+     * @param in       The underlying input stream.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the specified encoding is not ASCII compatible.
+     */
+    public DecodingInputStream(BaseEncoding encoding, InputStream in) {
+        this(encoding, in, null);
+        if (in == null)
+            throw new IllegalArgumentException("in is null");
+        if (!encoding.isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+    }
+
+    /**
+     * Initializes a new instance of the DecodingInputStream class which reads characters from the specified reader.
+     *
+     * @param encoding The encoding to decode the read characters.
+     * @param reader   The underlying reader.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public DecodingInputStream(BaseEncoding encoding, Reader reader) {
+        this(encoding, null, reader);
+        if (reader == null)
+            throw new IllegalArgumentException("reader is null");
+    }
+
+    private DecodingInputStream(BaseEncoding encoding, InputStream in, Reader reader) {
+        if (encoding == null)
+            throw new IllegalArgumentException("encoding is null");
+        this.encoding = encoding;
+        this.in = in;
+        this.reader = reader;
+        this.charsPerQuantum = encoding.getCharsPerQuantum();
+        this.bytesPerQuantum = encoding.getBytesPerQuantum();
+        this.chars = reader != null ? new char[BUFFER_QUANTA * charsPerQuantum] : null;
+        this.ascii = reader != null ? null : new byte[BUFFER_QUANTA * charsPerQuantum];
+        this.bytes = new byte[BUFFER_QUANTA * bytesPerQuantum];
+        this.separators = encoding.getLineLength() != 0 ? encoding.getSeparatorTable() : null;
+    }
+
+    /**
+     * Reads the next decoded byte.
+     *
+     * @return The next byte as an int in the range 0 to 255, or -1 if the end of the stream is reached.
+     * @throws IOException If an I/O error occurs, or the underlying input is not a valid base sequence, or the stream is closed.
+     */
+    @Override
+    public int read() throws IOException {
+        if (closed)
+            throw new IOException("stream is closed");
+        if (bytesPosition == bytesLimit && !fill())
+            return -1;
+        return bytes[bytesPosition++] & 0xFF;
+    }
+
+    /**
+     * Reads up to length decoded bytes into the specified byte array.
+     *
+     * @param bytesOut The byte array to contain the decoded bytes.
+     * @param offset   The index at which to start writing the decoded bytes.
+     * @param length   The maximum number of bytes to read.
+     * @return The actual number of bytes read, or -1 if the end of the stream is reached.
+     * @throws IOException              If an I/O error occurs, or the underlying input is not a valid base sequence, or the stream is closed.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    @Override
+    public int read(byte[] bytesOut, int offset, int length) throws IOException {
+        if (bytesOut == null)
+            throw new IllegalArgumentException("bytesOut is null");
+        if (!ArrayFunctions.validationInterval(bytesOut, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        if (closed)
+            throw new IOException("stream is closed");
+        if (length == 0)
+            return 0;
+        if (bytesPosition == bytesLimit && !fill())
+            return -1;
+        int n = Math.min(bytesLimit - bytesPosition, length);
+        System.arraycopy(bytes, bytesPosition, bytesOut, offset, n);
+        bytesPosition += n;
+        return n;
+    }
+
+    /**
+     * Returns the number of the decoded bytes that can be read without blocking.
+     *
+     * @throws IOException If the stream is closed.
+     */
+    @Override
+    public int available() throws IOException {
+        if (closed)
+            throw new IOException("stream is closed");
+        return bytesLimit - bytesPosition;
+    }
+
+    /**
+     * Closes this stream and the underlying stream or reader, it takes no effect if the stream has been closed already.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        if (reader != null)
+            reader.close();
+        else
+            in.close();
+    }
+
+    private boolean fill() throws IOException {
+        while (!eof) {
+            int capacity = reader != null ? chars.length : ascii.length;
+            int n = reader != null ? reader.read(chars, inputLength, capacity - inputLength) : in.read(ascii, inputLength, capacity - inputLength);
+            if (n < 0) {
+                eof = true;
+            } else {
+                inputLength += separators != null ? removeSeparators(inputLength, n) : n;
+            }
+            if (padded && inputLength != 0)
+                throw new IOException("input sequence is not a valid base sequence");
+            // the rest is decoded as the last quantum at the end, the encoding rejects a partial quantum if its padding is required
+            int length = eof ? inputLength : inputLength - inputLength % charsPerQuantum;
+            if (length != 0) {
+                decodeInput(length);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int removeSeparators(int offset, int length) {
+        // the read characters are compacted in place, the separators of a wrapped encoding are dropped
+        int count = offset;
+        for (int i = offset, bound = offset + length; i < bound; i++) {
+            if (reader != null) {
+                if (!BaseEncoding.isIgnorable(chars[i], separators))
+                    chars[count++] = chars[i];
+            } else {
+                if (!BaseEncoding.isIgnorable(ascii[i] & 0xFF, separators))
+                    ascii[count++] = ascii[i];
+            }
+        }
+        return count - offset;
+    }
+
+    private void decodeInput(int length) throws IOException {
+        int lengthOut = reader != null
+                ? encoding.tryDecodeWithoutArgumentsValidation(chars, 0, length, bytes, 0)
+                : encoding.tryDecodeFromAsciiWithoutArgumentsValidation(ascii, 0, length, bytes, 0);
+        if (lengthOut < 0)
+            throw new IOException("input sequence is not a valid base sequence");
+        bytesLimit = lengthOut;
+        bytesPosition = 0;
+        padded = bytesLimit != length / charsPerQuantum * bytesPerQuantum;
+        inputLength -= length;
+        if (reader != null)
+            System.arraycopy(chars, length, chars, 0, inputLength);
+        else
+            System.arraycopy(ascii, length, ascii, 0, inputLength);
+    }
+
+}
@@ -0,0 +1,196 @@
+package wallf.basenencodings;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * An output stream that encodes the written bytes by a Base-N encoding and writes the resulting characters into an underlying writer,
+ * or the resulting ASCII characters into an underlying output stream. <br />
+ * The written bytes are buffered until a whole quantum is available, the last partial quantum is encoded as the last quantum of the output when the stream is finished or closed. <br />
+ * The memory used is constant, it does not depend on the number of the written bytes.
+ */
+public class EncodingOutputStream extends OutputStream {
+
+    private static final int BUFFER_QUANTA = 1024;
+
+    private final BaseEncoding encoding;
+    private final OutputStream out;
+    private final Writer writer;
+    private final byte[] quantum;
+    private int quantumLength;
+    private int column;
+    private final char[] chars;
+    private final byte[] ascii;
+    private boolean finished;
+    private boolean closed;
+
+    /**
+     * Initializes a new instance of the EncodingOutputStream class which writes the resulting ASCII characters into the specified output stream.
+     *
+     * @param encoding The encoding to encode the written bytes.
+     * @param out      The underlying output stream.
+     * @throws IllegalArgumentException      Arguments error, see the source code.
+     * @throws UnsupportedOperationException If the specified encoding is not ASCII compatible.
+     */
+    public EncodingOutputStream(BaseEncoding encoding, OutputStream out) {
+        this(encoding, out, null);
+        if (out == null)
+            throw new IllegalArgumentException("out is null");
+        if (!encoding.isAsciiCompatible())
+            throw new UnsupportedOperationException("current encoding is not ASCII compatible");
+    }
+
+    /**
+     * Initializes a new instance of the EncodingOutputStream class which writes the resulting characters into the specified writer.
+     *
+     * @param encoding The encoding to encode the written bytes.
+     * @param writer   The underlying writer.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    public EncodingOutputStream(BaseEncoding encoding, Writer writer) {
+        this(encoding, null, writer);
+        if (writer == null)
+            throw new IllegalArgumentException("writer is null");
+    }
+
+    private EncodingOutputStream(BaseEncoding encoding, OutputStream out, Writer writer) {
+        if (encoding == null)
+            throw new IllegalArgumentException("encoding is null");
+        this.encoding = encoding;
+        this.out = out;
+        this.writer = writer;
+        this.quantum = new byte[encoding.getBytesPerQuantum()];
+        // the buffers hold the encoded chunk with the line separators, starting at any column
+        int capacity = encoding.getLinesEncodeCount(BUFFER_QUANTA * encoding.getBytesPerQuantum(), encoding.getLineLength());
+        this.chars = writer != null ? new char[capacity] : null;
+        this.ascii = writer != null ? null : new byte[capacity];
+    }
+
+    /**
+     * Writes the specified byte to this stream, it is encoded as soon as a whole quantum is available.
+     *
+     * @param b The byte to write, only the eight low-order bits are used.
+     * @throws IOException If an I/O error occurs, or the stream is finished or closed.
+     */
+    @Override
+    public void write(int b) throws IOException {
+        ensureWritable();
+        quantum[quantumLength++] = (byte) b;
+        if (quantumLength == quantum.length) {
+            writeEncoded(quantum, 0, quantumLength);
+            quantumLength = 0;
+        }
+    }
+
+    /**
+     * Writes a sequence of bytes from the specified byte array to this stream, the whole quanta are encoded immediately
+     * and the remaining bytes are buffered until the next write or the end of the stream.
+     *
+     * @param bytes  The byte array containing the sequence of bytes to write.
+     * @param offset The index of the first byte to write.
+     * @param length The number of bytes to write.
+     * @throws IOException              If an I/O error occurs, or the stream is finished or closed.
+     * @throws IllegalArgumentException Arguments error, see the source code.
+     */
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes is null");
+        if (!ArrayFunctions.validationInterval(bytes, offset, length))
+            throw new IllegalArgumentException("offset and length can't reference an effective tuple of bytes");
+        ensureWritable();
+        int quantumSize = quantum.length;
+        if (quantumLength != 0) {
+            int n = Math.min(quantumSize - quantumLength, length);
+            System.arraycopy(bytes, offset, quantum, quantumLength, n);
+            quantumLength += n;
+            offset += n;
+            length -= n;
+            if (quantumLength != quantumSize)
+                return;
+            writeEncoded(quantum, 0, quantumSize);
+            quantumLength = 0;
+        }
+        int chunk = BUFFER_QUANTA * quantumSize;
+        while (length >= quantumSize) {
+            int n = Math.min(length - length % quantumSize, chunk);
+            writeEncoded(bytes, offset, n);
+            offset += n;
+            length -= n;
+        }
+        System.arraycopy(bytes, offset, quantum, 0, length);
+        quantumLength = length;
+    }
+
+    /**
+     * Flushes the underlying stream or writer. <br />
+     * The buffered partial quantum is not written, because it could be encoded only as the last quantum of the output.
+     *
+     * @throws IOException If an I/O error occurs, or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (closed)
+            throw new IOException("stream is closed");
+        if (writer != null)
+            writer.flush();
+        else
+            out.flush();
+    }
+
+    /**
+     * Encodes the buffered partial quantum as the last quantum and flushes the underlying stream or writer without closing it. <br />
+     * No more bytes could be written after this method has been called, it takes no effect if the stream has been finished already.
+     *
+     * @throws IOException If an I/O error occurs, or the stream is closed.
+     */
+    public void finish() throws IOException {
+        if (closed)
+            throw new IOException("stream is closed");
+        if (finished)
+            return;
+        finished = true;
+        if (quantumLength != 0) {
+            writeEncoded(quantum, 0, quantumLength);
+            quantumLength = 0;
+        }
+        flush();
+    }
+
+    /**
+     * Finishes this stream and closes the underlying stream or writer, it takes no effect if the stream has been closed already.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        try {
+            finish();
+        } finally {
+            closed = true;
+            if (writer != null)
+                writer.close();
+            else
+                out.close();
+        }
+    }
+
+    private void ensureWritable() throws IOException {
+        if (closed)
+            throw new IOException("stream is closed");
+        if (finished)
+            throw new IOException("stream is finished");
+    }
+
+    private void writeEncoded(byte[] bytes, int offset, int length) throws IOException {
+        if (writer != null)
+            writer.write(chars, 0, encoding.encodeLinesWithoutArgumentsValidation(bytes, offset, length, chars, null, 0, column));
+        else
+            out.write(ascii, 0, encoding.encodeLinesWithoutArgumentsValidation(bytes, offset, length, null, ascii, 0, column));
+        column = encoding.getLineColumn(column, length);
+    }
+
+}
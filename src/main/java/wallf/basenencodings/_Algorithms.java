@@ -1,20 +1,153 @@
 package wallf.basenencodings;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
 
 
-final class Base16 {
-    private final char[] charMap;
-    private final Map<Character, Integer> indexMap;
+final class IndexTable {
+    // table indexed by character, INVALID marks characters out of the alphabet
+    public static final short INVALID = -1;
+
+    private final short[] table;
+
+    public IndexTable(char[] alphabet) {
+        this(alphabet, 0);
+    }
+
+    public IndexTable(char[] alphabet, int shift) {
+        int max = 0;
+        for (char c : alphabet)
+            if (c > max) max = c;
+        this.table = new short[max + 1];
+        Arrays.fill(table, INVALID);
+        for (int i = 0; i < alphabet.length; i++)
+            table[alphabet[i]] = (short) (i << shift);
+    }
+
+    public int indexOf(char c) {
+        return c < table.length ? table[c] : INVALID;
+    }
+
+    public int indexOf(byte b) {
+        int c = b & 0xFF;
+        return c < table.length ? table[c] : INVALID;
+    }
+}
+
+
+final class BufferSequence implements CharSequence {
+    // reads a CharBuffer, or the ASCII characters of a ByteBuffer, by absolute index regardless of the position,
+    // so the buffers are decoded and validated through the CharSequence paths of the radix engines
+    static final int BLOCK_QUANTA = 1 << 10;
+
+    private final CharBuffer chars;
+    private final ByteBuffer ascii;
+
+    public BufferSequence(CharBuffer chars) {
+        this.chars = chars;
+        this.ascii = null;
+    }
+
+    public BufferSequence(ByteBuffer ascii) {
+        this.chars = null;
+        this.ascii = ascii;
+    }
+
+    @Override
+    public int length() {
+        return chars != null ? chars.limit() : ascii.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars != null ? chars.get(index) : (char) (ascii.get(index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end)
+            throw new IndexOutOfBoundsException();
+        // a slice of a duplicate, the buffer itself is not touched
+        if (chars != null) {
+            CharBuffer c = chars.duplicate();
+            c.limit(end);
+            c.position(start);
+            return new BufferSequence(c.slice());
+        }
+        ByteBuffer a = ascii.duplicate();
+        a.limit(end);
+        a.position(start);
+        return new BufferSequence(a.slice());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length());
+        for (int i = 0; i < length(); i++)
+            sb.append(charAt(i));
+        return sb.toString();
+    }
+
+    public static int decode(SequenceDecoder decoder, CharSequence charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut, int lengthOut,
+                             int charsPerQuantum, int bytesPerQuantum) {
+        // the buffers are decoded by blocks of whole quanta into an array, the last block takes the padded or partial quantum
+        byte[] block = new byte[Math.min(lengthOut, BLOCK_QUANTA * bytesPerQuantum)];
+        ByteBuffer out = bytesOut.duplicate();
+        out.position(offsetOut);
+        for (int restOut = lengthOut; restOut != 0; ) {
+            boolean last = restOut <= block.length;
+            int n = last ? restOut : block.length, m = last ? lengthIn : n / bytesPerQuantum * charsPerQuantum;
+            if (decoder.tryDecode(charsIn, offsetIn, m, block, 0, n) < 0)
+                throw new IllegalArgumentException("input sequence is not a valid base sequence");
+            out.put(block, 0, n);
+            offsetIn += m;
+            lengthIn -= m;
+            restOut -= n;
+        }
+        return lengthOut;
+    }
+}
+
+
+final class Base16 implements CalibratedEngine, SequenceDecoder {
+    private final char[] pairMap;
+    private final byte[] asciiPairMap;
+    private final IndexTable highTable;
+    private final IndexTable indexTable;
+    private final EngineSelection engines;
 
     public Base16(char[] alphabet) {
-        this.charMap = alphabet;
-        this.indexMap = new HashMap<Character, Integer>(16);
-        for (int i = 0; i < 16; i++)
-            indexMap.put(alphabet[i], i);
+        this.pairMap = new char[512];
+        for (int i = 0; i < 256; i++) {
+            pairMap[i << 1] = alphabet[i >> 4];
+            pairMap[i << 1 | 1] = alphabet[i & 0x0F];
+        }
+        this.asciiPairMap = ArrayFunctions.isAscii(alphabet) ? ArrayFunctions.toAscii(pairMap) : null;
+        this.highTable = new IndexTable(alphabet, 4);
+        this.indexTable = new IndexTable(alphabet);
+        Map<String, BulkEncoder> candidates = new LinkedHashMap<String, BulkEncoder>();
+        candidates.put(EngineSelection.UNROLLED, new UnrolledBase16Encoder(pairMap, asciiPairMap));
+        if (asciiPairMap != null)
+            candidates.put(EngineSelection.VECTOR, OptionalEngines.newVectorBase16(alphabet));
+        this.engines = EngineSelection.select(candidates, null, this, asciiPairMap != null);
+    }
+
+    public boolean isAscii() {
+        return asciiPairMap != null;
     }
 
+    @Override
     public int encodeSize(int length) {
         return length * 2;
     }
@@ -27,26 +160,109 @@ final class Base16 {
     }
 
     public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
+        return encode(engines.getCharsEncoder(lengthIn), bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
         // ===========================
         //         [1               ]
         // 1:{xxxx 0123} 2:{xxxx 4567}
         // ===========================
         if (lengthIn == 0) return 0;
+        if (bulkEncoder != null) {
+            int n = bulkEncoder.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+            offsetIn += n;
+            lengthIn -= n;
+            offsetOut += n * 2;
+        }
         int boundIn = offsetIn + lengthIn;
         while (offsetIn != boundIn) {
-            int v = (int) bytesIn[offsetIn++] & 0xFF;
-            charsOut[offsetOut++] = charMap[v >> 4];
-            charsOut[offsetOut++] = charMap[v & 0x0F];
+            int v = (bytesIn[offsetIn++] & 0xFF) << 1;
+            charsOut[offsetOut++] = pairMap[v];
+            charsOut[offsetOut++] = pairMap[v | 1];
         }
         return lengthOut;
     }
 
-    public int decodeSize(int length) {
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (asciiOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut) {
+        return encode(engines.getAsciiEncoder(lengthIn), bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        if (bulkEncoder != null) {
+            int n = bulkEncoder.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+            offsetIn += n;
+            lengthIn -= n;
+            offsetOut += n * 2;
+        }
+        int boundIn = offsetIn + lengthIn;
+        while (offsetIn != boundIn) {
+            int v = (bytesIn[offsetIn++] & 0xFF) << 1;
+            asciiOut[offsetOut++] = asciiPairMap[v];
+            asciiOut[offsetOut++] = asciiPairMap[v | 1];
+        }
+        return lengthOut;
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (charsOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int boundIn = offsetIn + lengthIn;
+        while (offsetIn != boundIn) {
+            int v = (bytesIn.get(offsetIn++) & 0xFF) << 1;
+            charsOut.put(offsetOut++, pairMap[v]);
+            charsOut.put(offsetOut++, pairMap[v | 1]);
+        }
+        return lengthOut;
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (asciiOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int boundIn = offsetIn + lengthIn;
+        while (offsetIn != boundIn) {
+            int v = (bytesIn.get(offsetIn++) & 0xFF) << 1;
+            asciiOut.put(offsetOut++, asciiPairMap[v]);
+            asciiOut.put(offsetOut++, asciiPairMap[v | 1]);
+        }
+        return lengthOut;
+    }
+
+    public int tryDecodeSize(int length) {
         if (length % 2 != 0)
-            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+            return -1;
         return length / 2;
     }
 
+    public int decodeSize(int length) {
+        int lengthOut = tryDecodeSize(length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
     public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
         int lengthOut = decodeSize(lengthIn);
         if (bytesOut.length - offsetOut < lengthOut)
@@ -54,7 +270,21 @@ final class Base16 {
         return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
     }
 
-    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(lengthIn);
+        if (bytesOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return BufferSequence.decode(this, charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut, 2, 1);
+    }
+
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
         // ===========================
         // 1:{xxxx 0123} 2:{xxxx 4567}
         //         [1               ]
@@ -62,166 +292,229 @@ final class Base16 {
         if (lengthIn == 0) return 0;
         int boundIn = offsetIn + lengthIn;
         while (offsetIn != boundIn) {
-            char ca = charsIn[offsetIn++], cb = charsIn[offsetIn++];
-            if (!indexMap.containsKey(ca) || !indexMap.containsKey(cb))
-                throw new IllegalArgumentException("input sequence is not a valid base sequence");
-            int ia = indexMap.get(ca), ib = indexMap.get(cb);
-            bytesOut[offsetOut++] = (byte) (ia << 4 | ib);
+            int v = highTable.indexOf(charsIn[offsetIn++]) | indexTable.indexOf(charsIn[offsetIn++]);
+            if (v < 0)
+                return -1;
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        return lengthOut;
+    }
+
+    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    @Override
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        // the character sequences and the buffers(through BufferSequence by blocks) share this loop, the arrays have their own
+        if (lengthIn == 0) return 0;
+        int boundIn = offsetIn + lengthIn;
+        while (offsetIn != boundIn) {
+            int v = highTable.indexOf(charsIn.charAt(offsetIn++)) | indexTable.indexOf(charsIn.charAt(offsetIn++));
+            if (v < 0)
+                return -1;
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        return lengthOut;
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int decode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int boundIn = offsetIn + lengthIn;
+        while (offsetIn != boundIn) {
+            int v = highTable.indexOf(asciiIn[offsetIn++]) | indexTable.indexOf(asciiIn[offsetIn++]);
+            if (v < 0)
+                return -1;
+            bytesOut[offsetOut++] = (byte) v;
         }
         return lengthOut;
     }
 
+    public int decode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
     public boolean isValidBaseSequence(char[] chars, int offset, int length) {
         if (length % 2 != 0) return false;
         int bound = offset + length;
         while (offset != bound) {
-            if (!indexMap.containsKey(chars[offset++]))
+            if (indexTable.indexOf(chars[offset++]) < 0)
                 return false;
         }
         return true;
     }
-}
-
 
-final class Base32 {
-
-    private final char[] charMap;
-    private final Map<Character, Integer> indexMap;
-    private final char paddingChar;
+    public boolean isValidBaseSequence(CharSequence chars, int offset, int length) {
+        if (length % 2 != 0) return false;
+        int bound = offset + length;
+        while (offset != bound) {
+            if (indexTable.indexOf(chars.charAt(offset++)) < 0)
+                return false;
+        }
+        return true;
+    }
 
-    public Base32(char[] alphabet, char padding) {
-        this.charMap = alphabet;
-        this.indexMap = new HashMap<Character, Integer>(32);
-        for (int i = 0; i < 32; i++)
-            indexMap.put(alphabet[i], i);
-        this.paddingChar = padding;
+    public boolean isValidBaseSequence(byte[] ascii, int offset, int length) {
+        if (length % 2 != 0) return false;
+        int bound = offset + length;
+        while (offset != bound) {
+            if (indexTable.indexOf(ascii[offset++]) < 0)
+                return false;
+        }
+        return true;
     }
 
-    public int encodeSize(int length) {
-        return (int) Math.ceil(length / 5f) * 8;
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
     }
 
-    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
-        int lengthOut = encodeSize(lengthIn);
-        if (charsOut.length - offsetOut < lengthOut)
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
             throw new IllegalArgumentException("output sequence does not have enough capacity");
-        return encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+        return tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
 
+    public int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
     }
 
-    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
-        // ===============================================================================================================
-        //       [1               ][2                      ] [3              ][4                       ][5              ]
-        // 1:{xxx0 1234} 2:{xxx5 6701} 3:{xxx2 3456} 4:{xxx7 0123} 5:{xxx4 5670} 6:{xxx1 2345} 7:{xxx6 7012} 8:{xxx3 4567}
-        // ===============================================================================================================
-        if (lengthIn == 0) return 0;
-        int last = 5, temp = 0, boundIn = offsetIn + lengthIn, boundOut = offsetOut + lengthOut;
-        while (offsetIn != boundIn) {
-            int v = (int) bytesIn[offsetIn++] & 0xFF;
-            charsOut[offsetOut++] = charMap[temp | (v >> (8 - last))];
-            if (last <= 3) {
-                charsOut[offsetOut++] = charMap[(v >> (3 - last)) & 0x1F];
-                last += 5;
-            }
-            temp = (byte) ((v << (last = last - 3)) & 0x1F);
+    public int indexOfInvalid(char[] chars, int offset, int length) {
+        int bound = offset + length;
+        for (int i = offset; i < bound; i++) {
+            if (indexTable.indexOf(chars[i]) < 0)
+                return i;
         }
-        if (offsetOut != boundOut)
-            charsOut[offsetOut++] = charMap[temp];
-        while (offsetOut < boundOut)
-            charsOut[offsetOut++] = paddingChar;
-        return lengthOut;
+        return length % 2 != 0 ? bound : -1;
     }
 
-    public int decodeSize(char[] chars, int offset, int length, TypeWrapper<Integer> paddingNumWrapper) {
-        int paddingNum = 0;
-        if (length == 0) {
-            paddingNumWrapper.setValue(0);
-            return 0;
+    public int indexOfInvalid(CharSequence chars, int offset, int length) {
+        int bound = offset + length;
+        for (int i = offset; i < bound; i++) {
+            if (indexTable.indexOf(chars.charAt(i)) < 0)
+                return i;
         }
-        if (length % 4 != 0) throw new IllegalArgumentException("input sequence is not a valid base sequence");
-        int lastIndex = offset + length - 1;
-        for (int ir = offset + length, i = ir - 7; i < ir; i++) {
-            if (chars[i] == paddingChar) {
-                paddingNum = ir - i;
-                break;
-            }
+        return length % 2 != 0 ? bound : -1;
+    }
+
+    public int indexOfInvalid(byte[] ascii, int offset, int length) {
+        int bound = offset + length;
+        for (int i = offset; i < bound; i++) {
+            if (indexTable.indexOf(ascii[i]) < 0)
+                return i;
         }
-        paddingNumWrapper.setValue(paddingNum);
-        return (length - paddingNum) / 8 * 5 + PADDING_VALUES_NUM_MAP[paddingNum];
+        return length % 2 != 0 ? bound : -1;
     }
 
-    private static final int[] PADDING_VALUES_NUM_MAP = {0, 4, 0, 3, 2, 0, 1};
+    public int encodeLong(long value, char[] charsOut, int offsetOut) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            int v = ((int) (value >>> shift) & 0xFF) << 1;
+            charsOut[offsetOut++] = pairMap[v];
+            charsOut[offsetOut++] = pairMap[v | 1];
+        }
+        return 16;
+    }
 
-    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
-        TypeWrapper<Integer> paddingNumWrapper = new TypeWrapper<Integer>();
-        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn, paddingNumWrapper);
-        if (bytesOut.length - offsetOut < lengthOut)
-            throw new IllegalArgumentException("output sequence does not have enough capacity");
-        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut, paddingNumWrapper.getValue());
+    public int encodeUuid(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        encodeLong(mostSigBits, charsOut, offsetOut);
+        encodeLong(leastSigBits, charsOut, offsetOut + 16);
+        return 32;
     }
 
-    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut, int paddingNum) {
-        // ===============================================================================================================
-        // 1:{xxx0 1234} 2:{xxx5 6701} 3:{xxx2 3456} 4:{xxx7 0123} 5:{xxx4 5670} 6:{xxx1 2345} 7:{xxx6 7012} 8:{xxx3 4567}
-        //       [1               ][2                      ] [3              ][4                       ][5              ]
-        // ===============================================================================================================
-        if (lengthIn == 0) return 0;
-        int remain = 8, temp = 0, boundIn = offsetIn + lengthIn - paddingNum;
-        while (offsetIn != boundIn) {
-            char c = charsIn[offsetIn++];
-            if (!indexMap.containsKey(c))
-                throw new IllegalArgumentException("input sequence is not a valid base sequence");
-            int v = indexMap.get(c);
-            if (remain > 5) {
-                temp = temp | (v << (remain -= 5));
-            } else {
-                bytesOut[offsetOut++] = (byte) (temp | (v >> (5 - remain)));
-                temp = v << (remain += 3);
-            }
+    public long decodeLong(char[] chars, int offset) {
+        long v = 0;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 16; i != bound; i++) {
+            int x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            v = v << 4 | x & 0x0F;
         }
-        return lengthOut;
+        if (invalid < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return v;
     }
 
-    public boolean isValidBaseSequence(char[] chars, int offset, int length) {
-        if (length == 0) return true;
-        if (length % 8 != 0) return false;
-        int bound = offset + length;
-        boolean findChar = false;
-        for (int i = bound - 1, ir = bound - 7; i > ir; i--) {
-            char c = chars[i];
-            if (c == paddingChar) {
-                if (findChar)
-                    return false;
-            } else {
-                if (!indexMap.containsKey(c))
-                    return false;
-                findChar = true;
-            }
+    public long decodeLong(CharSequence chars, int offset) {
+        long v = 0;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 16; i != bound; i++) {
+            int x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            v = v << 4 | x & 0x0F;
         }
-        for (int i = bound - 7; i >= offset; i--) {
-            if (!indexMap.containsKey(chars[i]))
-                return false;
-        }
-        return true;
+        if (invalid < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return v;
+    }
+
+    public UUID decodeUuid(char[] chars, int offset) {
+        return new UUID(decodeLong(chars, offset), decodeLong(chars, offset + 16));
+    }
+
+    public UUID decodeUuid(CharSequence chars, int offset) {
+        return new UUID(decodeLong(chars, offset), decodeLong(chars, offset + 16));
     }
+
 }
 
 
-final class Base64 {
+final class Base32 implements CalibratedEngine, SequenceDecoder {
+
     private final char[] charMap;
-    private final Map<Character, Integer> indexMap;
+    private final byte[] asciiMap;
+    private final IndexTable indexTable;
     private final char paddingChar;
+    private final boolean paddingRequired;
+    private final EngineSelection engines;
 
-    public Base64(char[] alphabet, char padding) {
+    public Base32(char[] alphabet, char padding, boolean paddingRequired) {
         this.charMap = alphabet;
-        this.indexMap = new HashMap<Character, Integer>(64);
-        for (int i = 0; i < 64; i++)
-            indexMap.put(alphabet[i], i);
+        this.asciiMap = ArrayFunctions.isAscii(alphabet) && padding < 0x80 ? ArrayFunctions.toAscii(alphabet) : null;
+        this.indexTable = new IndexTable(alphabet);
         this.paddingChar = padding;
+        this.paddingRequired = paddingRequired;
+        // no SIMD encoder, the quanta of 5 bytes don't fit the lanes
+        Map<String, BulkEncoder> candidates = new LinkedHashMap<String, BulkEncoder>();
+        candidates.put(EngineSelection.UNROLLED, new UnrolledBase32Encoder(alphabet));
+        this.engines = EngineSelection.select(candidates, null, this, asciiMap != null);
+    }
+
+    public boolean isAscii() {
+        return asciiMap != null;
     }
 
+    @Override
     public int encodeSize(int length) {
-        return (int) Math.ceil(length / 3f) * 4;
+        if (!paddingRequired)
+            return length / 5 * 8 + TAIL_CHARS_NUM_MAP[length % 5];
+        return (length / 5 + (length % 5 == 0 ? 0 : 1)) * 8;
     }
 
     public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
@@ -229,80 +522,1018 @@ final class Base64 {
         if (charsOut.length - offsetOut < lengthOut)
             throw new IllegalArgumentException("output sequence does not have enough capacity");
         return encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+
     }
 
     public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
-        // =======================================================
-        //      [1             ] [2             ][3             ]
-        // 1:{xx01 2345} 2:{xx67 0123} 3:{xx45 6701} 4:{xx23 4567}
-        // =======================================================
+        return encode(engines.getCharsEncoder(lengthIn), bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
+        // ===============================================================================================================
+        //       [1               ][2                      ] [3              ][4                       ][5              ]
+        // 1:{xxx0 1234} 2:{xxx5 6701} 3:{xxx2 3456} 4:{xxx7 0123} 5:{xxx4 5670} 6:{xxx1 2345} 7:{xxx6 7012} 8:{xxx3 4567}
+        // ===============================================================================================================
         if (lengthIn == 0) return 0;
-        int last = 6, temp = 0, boundIn = offsetIn + lengthIn, boundOut = offsetOut + lengthOut;
+        if (bulkEncoder != null) {
+            int n = bulkEncoder.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+            offsetIn += n;
+            lengthIn -= n;
+            offsetOut += n / 5 * 8;
+        }
+        int tail = lengthIn % 5, boundIn = offsetIn + lengthIn - tail;
         while (offsetIn != boundIn) {
-            int v = (int) bytesIn[offsetIn++] & 0xFF;
-            charsOut[offsetOut++] = charMap[temp | (v >> (8 - last))];
-            if (last <= 2) {
-                charsOut[offsetOut++] = charMap[(v >> (2 - last)) & 0x3F];
-                last += 6;
-            }
-            temp = (v << (last = last - 2)) & 0x3F;
+            long v = PlatformFunctions.getInt40(bytesIn, offsetIn);
+            offsetIn += 5;
+            charsOut[offsetOut++] = charMap[(int) (v >>> 35)];
+            charsOut[offsetOut++] = charMap[(int) (v >>> 30) & 0x1F];
+            charsOut[offsetOut++] = charMap[(int) (v >>> 25) & 0x1F];
+            charsOut[offsetOut++] = charMap[(int) (v >>> 20) & 0x1F];
+            charsOut[offsetOut++] = charMap[(int) (v >>> 15) & 0x1F];
+            charsOut[offsetOut++] = charMap[(int) (v >>> 10) & 0x1F];
+            charsOut[offsetOut++] = charMap[(int) (v >>> 5) & 0x1F];
+            charsOut[offsetOut++] = charMap[(int) v & 0x1F];
+        }
+        if (tail != 0) {
+            long v = 0;
+            for (int shift = 32, boundTail = offsetIn + tail; offsetIn != boundTail; shift -= 8)
+                v |= (bytesIn[offsetIn++] & 0xFFL) << shift;
+            for (int i = 0, n = TAIL_CHARS_NUM_MAP[tail], bound = paddingRequired ? 8 : n, shift = 35; i < bound; i++, shift -= 5)
+                charsOut[offsetOut++] = i < n ? charMap[(int) (v >>> shift) & 0x1F] : paddingChar;
         }
-        if (offsetOut != boundOut)
-            charsOut[offsetOut++] = charMap[temp];
-        while (offsetOut < boundOut)
-            charsOut[offsetOut++] = paddingChar;
         return lengthOut;
     }
 
-    public int decodeSize(char[] chars, int offset, int length, TypeWrapper<Integer> paddingNumWrapper) {
-        int paddingNum = 0;
-        if (length == 0) {
-            paddingNumWrapper.setValue(0);
-            return 0;
-        }
-        if (length % 4 != 0) throw new IllegalArgumentException("input sequence is not a valid base sequence");
-        int lastIndex = offset + length - 1;
-        if (chars[lastIndex - 1] == paddingChar) paddingNum = 2;
-        else if (chars[lastIndex] == paddingChar) paddingNum = 1;
-        paddingNumWrapper.setValue(paddingNum);
-        return (length - paddingNum) / 4 * 3 + PADDING_VALUES_NUM_MAP[paddingNum];
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (asciiOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
     }
 
-    private static final int[] PADDING_VALUES_NUM_MAP = {0, 2, 1};
-
-    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
-        TypeWrapper<Integer> paddingNumWrapper = new TypeWrapper<Integer>();
-        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn, paddingNumWrapper);
-        if (bytesOut.length - offsetOut < lengthOut)
-            throw new IllegalArgumentException("output sequence does not have enough capacity");
-        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut, paddingNumWrapper.getValue());
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut) {
+        return encode(engines.getAsciiEncoder(lengthIn), bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
     }
 
-    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut, int paddingNum) {
-        // =======================================================
-        // 1:{xx01 2345} 2:{xx67 0123} 3:{xx45 6701} 4:{xx23 4567}
-        //      [1             ] [2             ][3             ]
-        // =======================================================
+    @Override
+    public int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut) {
         if (lengthIn == 0) return 0;
-        int remain = 8, temp = 0, boundIn = offsetIn + lengthIn - paddingNum;
+        if (bulkEncoder != null) {
+            int n = bulkEncoder.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+            offsetIn += n;
+            lengthIn -= n;
+            offsetOut += n / 5 * 8;
+        }
+        int tail = lengthIn % 5, boundIn = offsetIn + lengthIn - tail;
         while (offsetIn != boundIn) {
-            char c = charsIn[offsetIn++];
-            if (!indexMap.containsKey(c))
-                throw new IllegalArgumentException("input sequence is not a valid base sequence");
-            int v = indexMap.get(c);
-            if (remain > 6) {
-                temp = temp | (v << (remain -= 6));
-            } else {
-                bytesOut[offsetOut++] = (byte) (temp | (v >> (6 - remain)));
-                temp = v << (remain += 2);
-            }
+            long v = PlatformFunctions.getInt40(bytesIn, offsetIn);
+            offsetIn += 5;
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 35)];
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 30) & 0x1F];
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 25) & 0x1F];
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 20) & 0x1F];
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 15) & 0x1F];
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 10) & 0x1F];
+            asciiOut[offsetOut++] = asciiMap[(int) (v >>> 5) & 0x1F];
+            asciiOut[offsetOut++] = asciiMap[(int) v & 0x1F];
+        }
+        if (tail != 0) {
+            long v = 0;
+            for (int shift = 32, boundTail = offsetIn + tail; offsetIn != boundTail; shift -= 8)
+                v |= (bytesIn[offsetIn++] & 0xFFL) << shift;
+            for (int i = 0, n = TAIL_CHARS_NUM_MAP[tail], bound = paddingRequired ? 8 : n, shift = 35; i < bound; i++, shift -= 5)
+                asciiOut[offsetOut++] = i < n ? asciiMap[(int) (v >>> shift) & 0x1F] : (byte) paddingChar;
         }
         return lengthOut;
     }
 
-    public boolean isValidBaseSequence(char[] chars, int offset, int length) {
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (charsOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int tail = lengthIn % 5, boundIn = offsetIn + lengthIn - tail;
+        while (offsetIn != boundIn) {
+            long v = (bytesIn.get(offsetIn++) & 0xFFL) << 32 | (bytesIn.get(offsetIn++) & 0xFFL) << 24 | (bytesIn.get(offsetIn++) & 0xFFL) << 16
+                    | (bytesIn.get(offsetIn++) & 0xFFL) << 8 | bytesIn.get(offsetIn++) & 0xFFL;
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 35)]);
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 30) & 0x1F]);
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 25) & 0x1F]);
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 20) & 0x1F]);
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 15) & 0x1F]);
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 10) & 0x1F]);
+            charsOut.put(offsetOut++, charMap[(int) (v >>> 5) & 0x1F]);
+            charsOut.put(offsetOut++, charMap[(int) v & 0x1F]);
+        }
+        if (tail != 0) {
+            long v = 0;
+            for (int shift = 32, boundTail = offsetIn + tail; offsetIn != boundTail; shift -= 8)
+                v |= (bytesIn.get(offsetIn++) & 0xFFL) << shift;
+            for (int i = 0, n = TAIL_CHARS_NUM_MAP[tail], bound = paddingRequired ? 8 : n, shift = 35; i < bound; i++, shift -= 5)
+                charsOut.put(offsetOut++, i < n ? charMap[(int) (v >>> shift) & 0x1F] : paddingChar);
+        }
+        return lengthOut;
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (asciiOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int tail = lengthIn % 5, boundIn = offsetIn + lengthIn - tail;
+        while (offsetIn != boundIn) {
+            long v = (bytesIn.get(offsetIn++) & 0xFFL) << 32 | (bytesIn.get(offsetIn++) & 0xFFL) << 24 | (bytesIn.get(offsetIn++) & 0xFFL) << 16
+                    | (bytesIn.get(offsetIn++) & 0xFFL) << 8 | bytesIn.get(offsetIn++) & 0xFFL;
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 35)]);
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 30) & 0x1F]);
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 25) & 0x1F]);
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 20) & 0x1F]);
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 15) & 0x1F]);
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 10) & 0x1F]);
+            asciiOut.put(offsetOut++, asciiMap[(int) (v >>> 5) & 0x1F]);
+            asciiOut.put(offsetOut++, asciiMap[(int) v & 0x1F]);
+        }
+        if (tail != 0) {
+            long v = 0;
+            for (int shift = 32, boundTail = offsetIn + tail; offsetIn != boundTail; shift -= 8)
+                v |= (bytesIn.get(offsetIn++) & 0xFFL) << shift;
+            for (int i = 0, n = TAIL_CHARS_NUM_MAP[tail], bound = paddingRequired ? 8 : n, shift = 35; i < bound; i++, shift -= 5)
+                asciiOut.put(offsetOut++, i < n ? asciiMap[(int) (v >>> shift) & 0x1F] : (byte) paddingChar);
+        }
+        return lengthOut;
+    }
+
+    private static final int[] TAIL_CHARS_NUM_MAP = {0, 2, 4, 5, 7};
+    // the number of bytes of the last quantum without padding indexed by the number of its characters, -1 if it can't be a last quantum
+    private static final int[] TAIL_VALUES_NUM_MAP = {0, -1, 1, -1, 2, 3, -1, 4};
+
+    private int tryDecodeTailSize(int length) {
+        // the last quantum without padding is accepted only if the padding is optional
+        int n = paddingRequired ? -1 : TAIL_VALUES_NUM_MAP[length % 8];
+        return n < 0 ? -1 : length / 8 * 5 + n;
+    }
+
+    public int tryDecodeSize(char[] chars, int offset, int length) {
+        int paddingNum = 0;
+        if (length == 0) return 0;
+        if (length % 8 != 0) return tryDecodeTailSize(length);
+        // the padding is counted from the end, a padding character followed by any other one is left to the decode loop, which rejects it
+        for (int i = offset + length - 1; paddingNum < 6 && chars[i] == paddingChar; i--)
+            paddingNum++;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0)
+            return -1;
+        return (length - paddingNum) / 8 * 5 + PADDING_VALUES_NUM_MAP[paddingNum];
+    }
+
+    public int decodeSize(char[] chars, int offset, int length) {
+        int lengthOut = tryDecodeSize(chars, offset, length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int tryDecodeSize(CharSequence chars, int offset, int length) {
+        int paddingNum = 0;
+        if (length == 0) return 0;
+        if (length % 8 != 0) return tryDecodeTailSize(length);
+        for (int i = offset + length - 1; paddingNum < 6 && chars.charAt(i) == paddingChar; i--)
+            paddingNum++;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0)
+            return -1;
+        return (length - paddingNum) / 8 * 5 + PADDING_VALUES_NUM_MAP[paddingNum];
+    }
+
+    public int decodeSize(CharSequence chars, int offset, int length) {
+        int lengthOut = tryDecodeSize(chars, offset, length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int tryDecodeSize(byte[] ascii, int offset, int length) {
+        int paddingNum = 0;
+        if (length == 0) return 0;
+        if (length % 8 != 0) return tryDecodeTailSize(length);
+        for (int i = offset + length - 1; paddingNum < 6 && ascii[i] == paddingChar; i--)
+            paddingNum++;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0)
+            return -1;
+        return (length - paddingNum) / 8 * 5 + PADDING_VALUES_NUM_MAP[paddingNum];
+    }
+
+    public int decodeSize(byte[] ascii, int offset, int length) {
+        int lengthOut = tryDecodeSize(ascii, offset, length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    private static final int[] PADDING_VALUES_NUM_MAP = {0, 4, 0, 3, 2, 0, 1, 0};
+    // the padding number of the last quantum indexed by the number of its bytes, the inverse of PADDING_VALUES_NUM_MAP
+    private static final int[] PADDING_NUM_MAP = {0, 6, 4, 3, 1};
+
+    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn);
+        if (bytesOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return BufferSequence.decode(this, charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut, 8, 5);
+    }
+
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        // ===============================================================================================================
+        // 1:{xxx0 1234} 2:{xxx5 6701} 3:{xxx2 3456} 4:{xxx7 0123} 5:{xxx4 5670} 6:{xxx1 2345} 7:{xxx6 7012} 8:{xxx3 4567}
+        //       [1               ][2                      ] [3              ][4                       ][5              ]
+        // ===============================================================================================================
+        if (lengthIn == 0) return 0;
+        int paddingNum = PADDING_NUM_MAP[lengthOut % 5];
+        int boundIn = offsetIn + lengthOut / 5 * 8;
+        while (offsetIn != boundIn) {
+            int a = indexTable.indexOf(charsIn[offsetIn++]), b = indexTable.indexOf(charsIn[offsetIn++]),
+                    c = indexTable.indexOf(charsIn[offsetIn++]), d = indexTable.indexOf(charsIn[offsetIn++]),
+                    e = indexTable.indexOf(charsIn[offsetIn++]), f = indexTable.indexOf(charsIn[offsetIn++]),
+                    g = indexTable.indexOf(charsIn[offsetIn++]), h = indexTable.indexOf(charsIn[offsetIn++]);
+            if ((a | b | c | d | e | f | g | h) < 0)
+                return -1;
+            long v = (long) a << 35 | (long) b << 30 | (long) c << 25 | (long) d << 20 | e << 15 | f << 10 | g << 5 | h;
+            bytesOut[offsetOut++] = (byte) (v >> 32);
+            bytesOut[offsetOut++] = (byte) (v >> 24);
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            bytesOut[offsetOut++] = (byte) (v >> 8);
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        if (paddingNum != 0) {
+            long v = 0;
+            for (int shift = 35, boundTail = offsetIn + 8 - paddingNum; offsetIn != boundTail; shift -= 5) {
+                int x = indexTable.indexOf(charsIn[offsetIn++]);
+                if (x < 0)
+                    return -1;
+                v |= (long) x << shift;
+            }
+            for (int shift = 32, boundOut = offsetOut + PADDING_VALUES_NUM_MAP[paddingNum]; offsetOut != boundOut; shift -= 8)
+                bytesOut[offsetOut++] = (byte) (v >> shift);
+        }
+        return lengthOut;
+    }
+
+    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    @Override
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        // the character sequences and the buffers(through BufferSequence by blocks) share this loop, the arrays have their own
+        if (lengthIn == 0) return 0;
+        int paddingNum = PADDING_NUM_MAP[lengthOut % 5];
+        int boundIn = offsetIn + lengthOut / 5 * 8;
+        while (offsetIn != boundIn) {
+            int a = indexTable.indexOf(charsIn.charAt(offsetIn++)), b = indexTable.indexOf(charsIn.charAt(offsetIn++)),
+                    c = indexTable.indexOf(charsIn.charAt(offsetIn++)), d = indexTable.indexOf(charsIn.charAt(offsetIn++)),
+                    e = indexTable.indexOf(charsIn.charAt(offsetIn++)), f = indexTable.indexOf(charsIn.charAt(offsetIn++)),
+                    g = indexTable.indexOf(charsIn.charAt(offsetIn++)), h = indexTable.indexOf(charsIn.charAt(offsetIn++));
+            if ((a | b | c | d | e | f | g | h) < 0)
+                return -1;
+            long v = (long) a << 35 | (long) b << 30 | (long) c << 25 | (long) d << 20 | e << 15 | f << 10 | g << 5 | h;
+            bytesOut[offsetOut++] = (byte) (v >> 32);
+            bytesOut[offsetOut++] = (byte) (v >> 24);
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            bytesOut[offsetOut++] = (byte) (v >> 8);
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        if (paddingNum != 0) {
+            long v = 0;
+            for (int shift = 35, boundTail = offsetIn + 8 - paddingNum; offsetIn != boundTail; shift -= 5) {
+                int x = indexTable.indexOf(charsIn.charAt(offsetIn++));
+                if (x < 0)
+                    return -1;
+                v |= (long) x << shift;
+            }
+            for (int shift = 32, boundOut = offsetOut + PADDING_VALUES_NUM_MAP[paddingNum]; offsetOut != boundOut; shift -= 8)
+                bytesOut[offsetOut++] = (byte) (v >> shift);
+        }
+        return lengthOut;
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int decode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(asciiIn, offsetIn, lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int paddingNum = PADDING_NUM_MAP[lengthOut % 5];
+        int boundIn = offsetIn + lengthOut / 5 * 8;
+        while (offsetIn != boundIn) {
+            int a = indexTable.indexOf(asciiIn[offsetIn++]), b = indexTable.indexOf(asciiIn[offsetIn++]),
+                    c = indexTable.indexOf(asciiIn[offsetIn++]), d = indexTable.indexOf(asciiIn[offsetIn++]),
+                    e = indexTable.indexOf(asciiIn[offsetIn++]), f = indexTable.indexOf(asciiIn[offsetIn++]),
+                    g = indexTable.indexOf(asciiIn[offsetIn++]), h = indexTable.indexOf(asciiIn[offsetIn++]);
+            if ((a | b | c | d | e | f | g | h) < 0)
+                return -1;
+            long v = (long) a << 35 | (long) b << 30 | (long) c << 25 | (long) d << 20 | e << 15 | f << 10 | g << 5 | h;
+            bytesOut[offsetOut++] = (byte) (v >> 32);
+            bytesOut[offsetOut++] = (byte) (v >> 24);
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            bytesOut[offsetOut++] = (byte) (v >> 8);
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        if (paddingNum != 0) {
+            long v = 0;
+            for (int shift = 35, boundTail = offsetIn + 8 - paddingNum; offsetIn != boundTail; shift -= 5) {
+                int x = indexTable.indexOf(asciiIn[offsetIn++]);
+                if (x < 0)
+                    return -1;
+                v |= (long) x << shift;
+            }
+            for (int shift = 32, boundOut = offsetOut + PADDING_VALUES_NUM_MAP[paddingNum]; offsetOut != boundOut; shift -= 8)
+                bytesOut[offsetOut++] = (byte) (v >> shift);
+        }
+        return lengthOut;
+    }
+
+    public int decode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public boolean isValidBaseSequence(char[] chars, int offset, int length) {
+        if (length == 0) return true;
+        if (length % 8 != 0) return indexOfInvalid(chars, offset, length) < 0;
+        int bound = offset + length;
+        boolean findChar = false;
+        for (int i = bound - 1, ir = bound - 7; i > ir; i--) {
+            char c = chars[i];
+            if (c == paddingChar) {
+                if (findChar)
+                    return false;
+            } else {
+                if (indexTable.indexOf(c) < 0)
+                    return false;
+                findChar = true;
+            }
+        }
+        for (int i = bound - 7; i >= offset; i--) {
+            if (indexTable.indexOf(chars[i]) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isValidBaseSequence(CharSequence chars, int offset, int length) {
+        if (length == 0) return true;
+        if (length % 8 != 0) return indexOfInvalid(chars, offset, length) < 0;
+        int bound = offset + length;
+        boolean findChar = false;
+        for (int i = bound - 1, ir = bound - 7; i > ir; i--) {
+            char c = chars.charAt(i);
+            if (c == paddingChar) {
+                if (findChar)
+                    return false;
+            } else {
+                if (indexTable.indexOf(c) < 0)
+                    return false;
+                findChar = true;
+            }
+        }
+        for (int i = bound - 7; i >= offset; i--) {
+            if (indexTable.indexOf(chars.charAt(i)) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isValidBaseSequence(byte[] ascii, int offset, int length) {
+        if (length == 0) return true;
+        if (length % 8 != 0) return indexOfInvalid(ascii, offset, length) < 0;
+        int bound = offset + length;
+        boolean findChar = false;
+        for (int i = bound - 1, ir = bound - 7; i > ir; i--) {
+            byte c = ascii[i];
+            if (c == paddingChar) {
+                if (findChar)
+                    return false;
+            } else {
+                if (indexTable.indexOf(c) < 0)
+                    return false;
+                findChar = true;
+            }
+        }
+        for (int i = bound - 7; i >= offset; i--) {
+            if (indexTable.indexOf(ascii[i]) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(charsIn, offsetIn, lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(charsIn, offsetIn, lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(asciiIn, offsetIn, lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int indexOfInvalid(char[] chars, int offset, int length) {
+        // the trailing padding characters are counted first, then the characters before them must be all in the alphabet,
+        // a partial last quantum is valid only if the padding is optional, otherwise the input is truncated and the end is reported
+        int bound = offset + length, tail = length % 8, paddingNum = 0, partial = paddingRequired || TAIL_VALUES_NUM_MAP[tail] < 0 ? 0 : tail;
+        if (tail == 0) {
+            while (paddingNum < length && paddingNum < PADDING_VALUES_NUM_MAP.length - 1 && chars[bound - 1 - paddingNum] == paddingChar)
+                paddingNum++;
+        }
+        for (int i = offset, ir = bound - paddingNum; i < ir; i++) {
+            if (indexTable.indexOf(chars[i]) < 0)
+                return i;
+        }
+        if (tail != partial) return bound;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0) return bound - paddingNum;
+        return -1;
+    }
+
+    public int indexOfInvalid(CharSequence chars, int offset, int length) {
+        int bound = offset + length, tail = length % 8, paddingNum = 0, partial = paddingRequired || TAIL_VALUES_NUM_MAP[tail] < 0 ? 0 : tail;
+        if (tail == 0) {
+            while (paddingNum < length && paddingNum < PADDING_VALUES_NUM_MAP.length - 1 && chars.charAt(bound - 1 - paddingNum) == paddingChar)
+                paddingNum++;
+        }
+        for (int i = offset, ir = bound - paddingNum; i < ir; i++) {
+            if (indexTable.indexOf(chars.charAt(i)) < 0)
+                return i;
+        }
+        if (tail != partial) return bound;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0) return bound - paddingNum;
+        return -1;
+    }
+
+    public int indexOfInvalid(byte[] ascii, int offset, int length) {
+        int bound = offset + length, tail = length % 8, paddingNum = 0, partial = paddingRequired || TAIL_VALUES_NUM_MAP[tail] < 0 ? 0 : tail;
+        if (tail == 0) {
+            while (paddingNum < length && paddingNum < PADDING_VALUES_NUM_MAP.length - 1 && ascii[bound - 1 - paddingNum] == paddingChar)
+                paddingNum++;
+        }
+        for (int i = offset, ir = bound - paddingNum; i < ir; i++) {
+            if (indexTable.indexOf(ascii[i]) < 0)
+                return i;
+        }
+        if (tail != partial) return bound;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0) return bound - paddingNum;
+        return -1;
+    }
+
+    public int encodeLong(long value, char[] charsOut, int offsetOut) {
+        // 64 bits: 12 characters of 5 bits, the last 4 bits with 1 zero bit, 3 padding characters
+        for (int shift = 59; shift >= 4; shift -= 5)
+            charsOut[offsetOut++] = charMap[(int) (value >>> shift) & 0x1F];
+        charsOut[offsetOut++] = charMap[(int) (value << 1) & 0x1F];
+        if (!paddingRequired)
+            return 13;
+        charsOut[offsetOut++] = paddingChar;
+        charsOut[offsetOut++] = paddingChar;
+        charsOut[offsetOut] = paddingChar;
+        return 16;
+    }
+
+    public int encodeUuid(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        // 128 bits: 25 characters of 5 bits, one of them crosses the two longs, the last 3 bits with 2 zero bits, 6 padding characters
+        for (int shift = 59; shift >= 4; shift -= 5)
+            charsOut[offsetOut++] = charMap[(int) (mostSigBits >>> shift) & 0x1F];
+        charsOut[offsetOut++] = charMap[(int) (mostSigBits << 1 | leastSigBits >>> 63) & 0x1F];
+        for (int shift = 58; shift >= 3; shift -= 5)
+            charsOut[offsetOut++] = charMap[(int) (leastSigBits >>> shift) & 0x1F];
+        charsOut[offsetOut++] = charMap[(int) (leastSigBits << 2) & 0x1F];
+        if (!paddingRequired)
+            return 26;
+        for (int bound = offsetOut + 6; offsetOut != bound; offsetOut++)
+            charsOut[offsetOut] = paddingChar;
+        return 32;
+    }
+
+    public long decodeLong(char[] chars, int offset) {
+        long v = 0;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 12; i != bound; i++) {
+            int x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            v = v << 5 | x & 0x1F;
+        }
+        int x = indexTable.indexOf(chars[offset + 12]);
+        invalid |= x;
+        v = v << 4 | (x & 0x1F) >>> 1;
+        int padding = !paddingRequired ? 0 : chars[offset + 13] ^ paddingChar | chars[offset + 14] ^ paddingChar | chars[offset + 15] ^ paddingChar;
+        if (invalid < 0 || padding != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return v;
+    }
+
+    public UUID decodeUuid(char[] chars, int offset) {
+        long most = 0, least;
+        int invalid = 0, padding = 0;
+        for (int i = offset, bound = offset + 12; i != bound; i++) {
+            int x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            most = most << 5 | x & 0x1F;
+        }
+        int x = indexTable.indexOf(chars[offset + 12]);
+        invalid |= x;
+        most = most << 4 | (x & 0x1F) >>> 1;
+        least = x & 0x01;
+        for (int i = offset + 13, bound = offset + 25; i != bound; i++) {
+            x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            least = least << 5 | x & 0x1F;
+        }
+        x = indexTable.indexOf(chars[offset + 25]);
+        invalid |= x;
+        least = least << 3 | (x & 0x1F) >>> 2;
+        for (int i = offset + 26, bound = paddingRequired ? offset + 32 : i; i != bound; i++)
+            padding |= chars[i] ^ paddingChar;
+        if (invalid < 0 || padding != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return new UUID(most, least);
+    }
+
+    public long decodeLong(CharSequence chars, int offset) {
+        long v = 0;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 12; i != bound; i++) {
+            int x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            v = v << 5 | x & 0x1F;
+        }
+        int x = indexTable.indexOf(chars.charAt(offset + 12));
+        invalid |= x;
+        v = v << 4 | (x & 0x1F) >>> 1;
+        int padding = !paddingRequired ? 0 : chars.charAt(offset + 13) ^ paddingChar | chars.charAt(offset + 14) ^ paddingChar | chars.charAt(offset + 15) ^ paddingChar;
+        if (invalid < 0 || padding != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return v;
+    }
+
+    public UUID decodeUuid(CharSequence chars, int offset) {
+        long most = 0, least;
+        int invalid = 0, padding = 0;
+        for (int i = offset, bound = offset + 12; i != bound; i++) {
+            int x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            most = most << 5 | x & 0x1F;
+        }
+        int x = indexTable.indexOf(chars.charAt(offset + 12));
+        invalid |= x;
+        most = most << 4 | (x & 0x1F) >>> 1;
+        least = x & 0x01;
+        for (int i = offset + 13, bound = offset + 25; i != bound; i++) {
+            x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            least = least << 5 | x & 0x1F;
+        }
+        x = indexTable.indexOf(chars.charAt(offset + 25));
+        invalid |= x;
+        least = least << 3 | (x & 0x1F) >>> 2;
+        for (int i = offset + 26, bound = paddingRequired ? offset + 32 : i; i != bound; i++)
+            padding |= chars.charAt(i) ^ paddingChar;
+        if (invalid < 0 || padding != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return new UUID(most, least);
+    }
+
+}
+
+
+final class Base64 implements CalibratedEngine, SequenceDecoder {
+    private final char[] charMap;
+    private final byte[] asciiMap;
+    private final IndexTable indexTable;
+    private final char paddingChar;
+    private final boolean paddingRequired;
+    private final EngineSelection engines;
+
+    public Base64(char[] alphabet, char padding, boolean paddingRequired) {
+        this.charMap = alphabet;
+        this.asciiMap = ArrayFunctions.isAscii(alphabet) && padding < 0x80 ? ArrayFunctions.toAscii(alphabet) : null;
+        this.indexTable = new IndexTable(alphabet);
+        this.paddingChar = padding;
+        this.paddingRequired = paddingRequired;
+        Map<String, BulkEncoder> candidates = new LinkedHashMap<String, BulkEncoder>();
+        candidates.put(EngineSelection.UNROLLED, new UnrolledBase64Encoder(alphabet));
+        candidates.put(EngineSelection.VECTOR, OptionalEngines.newVectorBase64(alphabet));
+        candidates.put(EngineSelection.JDK, OptionalEngines.newJdkBase64Encoder(alphabet, padding, paddingRequired));
+        this.engines = EngineSelection.select(candidates, OptionalEngines.newJdkBase64Decoder(alphabet, padding, paddingRequired), this, asciiMap != null);
+    }
+
+    public boolean isAscii() {
+        return asciiMap != null;
+    }
+
+    @Override
+    public int encodeSize(int length) {
+        if (!paddingRequired)
+            return length / 3 * 4 + TAIL_CHARS_NUM_MAP[length % 3];
+        return (length / 3 + (length % 3 == 0 ? 0 : 1)) * 4;
+    }
+
+    // the number of characters of the last quantum without padding indexed by the number of its bytes
+    private static final int[] TAIL_CHARS_NUM_MAP = {0, 2, 3};
+
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (charsOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
+        return encode(engines.getCharsEncoder(lengthIn), bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut) {
+        // =======================================================
+        //      [1             ] [2             ][3             ]
+        // 1:{xx01 2345} 2:{xx67 0123} 3:{xx45 6701} 4:{xx23 4567}
+        // =======================================================
+        if (lengthIn == 0) return 0;
+        if (bulkEncoder != null) {
+            int n = bulkEncoder.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+            offsetIn += n;
+            lengthIn -= n;
+            offsetOut += n / 3 * 4;
+        }
+        int tail = lengthIn % 3, boundIn = offsetIn + lengthIn - tail;
+        while (offsetIn != boundIn) {
+            int v = PlatformFunctions.getInt24(bytesIn, offsetIn);
+            offsetIn += 3;
+            charsOut[offsetOut++] = charMap[v >>> 18];
+            charsOut[offsetOut++] = charMap[(v >>> 12) & 0x3F];
+            charsOut[offsetOut++] = charMap[(v >>> 6) & 0x3F];
+            charsOut[offsetOut++] = charMap[v & 0x3F];
+        }
+        if (tail != 0) {
+            int v = (bytesIn[offsetIn++] & 0xFF) << 16;
+            if (tail == 2) v |= (bytesIn[offsetIn] & 0xFF) << 8;
+            charsOut[offsetOut++] = charMap[v >>> 18];
+            charsOut[offsetOut++] = charMap[(v >>> 12) & 0x3F];
+            if (tail == 2 || paddingRequired)
+                charsOut[offsetOut++] = tail == 2 ? charMap[(v >>> 6) & 0x3F] : paddingChar;
+            if (paddingRequired)
+                charsOut[offsetOut] = paddingChar;
+        }
+        return lengthOut;
+    }
+
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (asciiOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut) {
+        return encode(engines.getAsciiEncoder(lengthIn), bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        if (bulkEncoder != null) {
+            int n = bulkEncoder.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+            offsetIn += n;
+            lengthIn -= n;
+            offsetOut += n / 3 * 4;
+        }
+        int tail = lengthIn % 3, boundIn = offsetIn + lengthIn - tail;
+        while (offsetIn != boundIn) {
+            int v = PlatformFunctions.getInt24(bytesIn, offsetIn);
+            offsetIn += 3;
+            asciiOut[offsetOut++] = asciiMap[v >>> 18];
+            asciiOut[offsetOut++] = asciiMap[(v >>> 12) & 0x3F];
+            asciiOut[offsetOut++] = asciiMap[(v >>> 6) & 0x3F];
+            asciiOut[offsetOut++] = asciiMap[v & 0x3F];
+        }
+        if (tail != 0) {
+            int v = (bytesIn[offsetIn++] & 0xFF) << 16;
+            if (tail == 2) v |= (bytesIn[offsetIn] & 0xFF) << 8;
+            asciiOut[offsetOut++] = asciiMap[v >>> 18];
+            asciiOut[offsetOut++] = asciiMap[(v >>> 12) & 0x3F];
+            if (tail == 2 || paddingRequired)
+                asciiOut[offsetOut++] = tail == 2 ? asciiMap[(v >>> 6) & 0x3F] : (byte) paddingChar;
+            if (paddingRequired)
+                asciiOut[offsetOut] = (byte) paddingChar;
+        }
+        return lengthOut;
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (charsOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut, lengthOut);
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, CharBuffer charsOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int tail = lengthIn % 3, boundIn = offsetIn + lengthIn - tail;
+        while (offsetIn != boundIn) {
+            int v = (bytesIn.get(offsetIn++) & 0xFF) << 16 | (bytesIn.get(offsetIn++) & 0xFF) << 8 | bytesIn.get(offsetIn++) & 0xFF;
+            charsOut.put(offsetOut++, charMap[v >>> 18]);
+            charsOut.put(offsetOut++, charMap[(v >>> 12) & 0x3F]);
+            charsOut.put(offsetOut++, charMap[(v >>> 6) & 0x3F]);
+            charsOut.put(offsetOut++, charMap[v & 0x3F]);
+        }
+        if (tail != 0) {
+            int v = (bytesIn.get(offsetIn++) & 0xFF) << 16;
+            if (tail == 2) v |= (bytesIn.get(offsetIn) & 0xFF) << 8;
+            charsOut.put(offsetOut++, charMap[v >>> 18]);
+            charsOut.put(offsetOut++, charMap[(v >>> 12) & 0x3F]);
+            if (tail == 2 || paddingRequired)
+                charsOut.put(offsetOut++, tail == 2 ? charMap[(v >>> 6) & 0x3F] : paddingChar);
+            if (paddingRequired)
+                charsOut.put(offsetOut, paddingChar);
+        }
+        return lengthOut;
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut) {
+        int lengthOut = encodeSize(lengthIn);
+        if (asciiOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut, lengthOut);
+    }
+
+    public int encode(ByteBuffer bytesIn, int offsetIn, int lengthIn, ByteBuffer asciiOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int tail = lengthIn % 3, boundIn = offsetIn + lengthIn - tail;
+        while (offsetIn != boundIn) {
+            int v = (bytesIn.get(offsetIn++) & 0xFF) << 16 | (bytesIn.get(offsetIn++) & 0xFF) << 8 | bytesIn.get(offsetIn++) & 0xFF;
+            asciiOut.put(offsetOut++, asciiMap[v >>> 18]);
+            asciiOut.put(offsetOut++, asciiMap[(v >>> 12) & 0x3F]);
+            asciiOut.put(offsetOut++, asciiMap[(v >>> 6) & 0x3F]);
+            asciiOut.put(offsetOut++, asciiMap[v & 0x3F]);
+        }
+        if (tail != 0) {
+            int v = (bytesIn.get(offsetIn++) & 0xFF) << 16;
+            if (tail == 2) v |= (bytesIn.get(offsetIn) & 0xFF) << 8;
+            asciiOut.put(offsetOut++, asciiMap[v >>> 18]);
+            asciiOut.put(offsetOut++, asciiMap[(v >>> 12) & 0x3F]);
+            if (tail == 2 || paddingRequired)
+                asciiOut.put(offsetOut++, tail == 2 ? asciiMap[(v >>> 6) & 0x3F] : (byte) paddingChar);
+            if (paddingRequired)
+                asciiOut.put(offsetOut, (byte) paddingChar);
+        }
+        return lengthOut;
+    }
+
+    public int tryDecodeSize(char[] chars, int offset, int length) {
+        int paddingNum = 0;
+        if (length == 0) return 0;
+        if (length % 4 != 0) return tryDecodeTailSize(length);
+        int lastIndex = offset + length - 1;
+        if (chars[lastIndex] == paddingChar) paddingNum = chars[lastIndex - 1] == paddingChar ? 2 : 1;
+        return (length - paddingNum) / 4 * 3 + PADDING_VALUES_NUM_MAP[paddingNum];
+    }
+
+    public int decodeSize(char[] chars, int offset, int length) {
+        int lengthOut = tryDecodeSize(chars, offset, length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int tryDecodeSize(CharSequence chars, int offset, int length) {
+        int paddingNum = 0;
+        if (length == 0) return 0;
+        if (length % 4 != 0) return tryDecodeTailSize(length);
+        int lastIndex = offset + length - 1;
+        if (chars.charAt(lastIndex) == paddingChar) paddingNum = chars.charAt(lastIndex - 1) == paddingChar ? 2 : 1;
+        return (length - paddingNum) / 4 * 3 + PADDING_VALUES_NUM_MAP[paddingNum];
+    }
+
+    public int decodeSize(CharSequence chars, int offset, int length) {
+        int lengthOut = tryDecodeSize(chars, offset, length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int tryDecodeSize(byte[] ascii, int offset, int length) {
+        int paddingNum = 0;
+        if (length == 0) return 0;
+        if (length % 4 != 0) return tryDecodeTailSize(length);
+        int lastIndex = offset + length - 1;
+        if (ascii[lastIndex] == paddingChar) paddingNum = ascii[lastIndex - 1] == paddingChar ? 2 : 1;
+        return (length - paddingNum) / 4 * 3 + PADDING_VALUES_NUM_MAP[paddingNum];
+    }
+
+    public int decodeSize(byte[] ascii, int offset, int length) {
+        int lengthOut = tryDecodeSize(ascii, offset, length);
+        if (lengthOut < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    private static final int[] PADDING_VALUES_NUM_MAP = {0, 2, 1};
+    // the padding number of the last quantum indexed by the number of its bytes, the inverse of PADDING_VALUES_NUM_MAP
+    private static final int[] PADDING_NUM_MAP = {0, 2, 1};
+    // the number of bytes of the last quantum without padding indexed by the number of its characters, -1 if it can't be a last quantum
+    private static final int[] TAIL_VALUES_NUM_MAP = {0, -1, 1, 2};
+
+    private int tryDecodeTailSize(int length) {
+        // the last quantum without padding is accepted only if the padding is optional
+        int n = paddingRequired ? -1 : TAIL_VALUES_NUM_MAP[length % 4];
+        return n < 0 ? -1 : length / 4 * 3 + n;
+    }
+
+    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, ByteBuffer bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(charsIn, offsetIn, lengthIn);
+        if (bytesOut.limit() - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return BufferSequence.decode(this, charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut, 4, 3);
+    }
+
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        // =======================================================
+        // 1:{xx01 2345} 2:{xx67 0123} 3:{xx45 6701} 4:{xx23 4567}
+        //      [1             ] [2             ][3             ]
+        // =======================================================
+        if (lengthIn == 0) return 0;
+        int paddingNum = PADDING_NUM_MAP[lengthOut % 3];
+        int boundIn = offsetIn + lengthOut / 3 * 4;
+        while (offsetIn != boundIn) {
+            int a = indexTable.indexOf(charsIn[offsetIn++]), b = indexTable.indexOf(charsIn[offsetIn++]),
+                    c = indexTable.indexOf(charsIn[offsetIn++]), d = indexTable.indexOf(charsIn[offsetIn++]);
+            if ((a | b | c | d) < 0)
+                return -1;
+            int v = a << 18 | b << 12 | c << 6 | d;
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            bytesOut[offsetOut++] = (byte) (v >> 8);
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        if (paddingNum != 0) {
+            int a = indexTable.indexOf(charsIn[offsetIn++]), b = indexTable.indexOf(charsIn[offsetIn++]),
+                    c = paddingNum == 1 ? indexTable.indexOf(charsIn[offsetIn]) : 0;
+            if ((a | b | c) < 0)
+                return -1;
+            int v = a << 18 | b << 12 | c << 6;
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            if (paddingNum == 1) bytesOut[offsetOut] = (byte) (v >> 8);
+        }
+        return lengthOut;
+    }
+
+    public int decode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    @Override
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        // the character sequences and the buffers(through BufferSequence by blocks) share this loop, the arrays have their own
+        if (lengthIn == 0) return 0;
+        int paddingNum = PADDING_NUM_MAP[lengthOut % 3];
+        int boundIn = offsetIn + lengthOut / 3 * 4;
+        while (offsetIn != boundIn) {
+            int a = indexTable.indexOf(charsIn.charAt(offsetIn++)), b = indexTable.indexOf(charsIn.charAt(offsetIn++)),
+                    c = indexTable.indexOf(charsIn.charAt(offsetIn++)), d = indexTable.indexOf(charsIn.charAt(offsetIn++));
+            if ((a | b | c | d) < 0)
+                return -1;
+            int v = a << 18 | b << 12 | c << 6 | d;
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            bytesOut[offsetOut++] = (byte) (v >> 8);
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        if (paddingNum != 0) {
+            int a = indexTable.indexOf(charsIn.charAt(offsetIn++)), b = indexTable.indexOf(charsIn.charAt(offsetIn++)),
+                    c = paddingNum == 1 ? indexTable.indexOf(charsIn.charAt(offsetIn)) : 0;
+            if ((a | b | c) < 0)
+                return -1;
+            int v = a << 18 | b << 12 | c << 6;
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            if (paddingNum == 1) bytesOut[offsetOut] = (byte) (v >> 8);
+        }
+        return lengthOut;
+    }
+
+    public int decode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public int decode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = decodeSize(asciiIn, offsetIn, lengthIn);
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return decode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    @Override
+    public int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        if (lengthIn == 0) return 0;
+        int paddingNum = PADDING_NUM_MAP[lengthOut % 3];
+        int boundIn = offsetIn + lengthOut / 3 * 4;
+        while (offsetIn != boundIn) {
+            int a = indexTable.indexOf(asciiIn[offsetIn++]), b = indexTable.indexOf(asciiIn[offsetIn++]),
+                    c = indexTable.indexOf(asciiIn[offsetIn++]), d = indexTable.indexOf(asciiIn[offsetIn++]);
+            if ((a | b | c | d) < 0)
+                return -1;
+            int v = a << 18 | b << 12 | c << 6 | d;
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            bytesOut[offsetOut++] = (byte) (v >> 8);
+            bytesOut[offsetOut++] = (byte) v;
+        }
+        if (paddingNum != 0) {
+            int a = indexTable.indexOf(asciiIn[offsetIn++]), b = indexTable.indexOf(asciiIn[offsetIn++]),
+                    c = paddingNum == 1 ? indexTable.indexOf(asciiIn[offsetIn]) : 0;
+            if ((a | b | c) < 0)
+                return -1;
+            int v = a << 18 | b << 12 | c << 6;
+            bytesOut[offsetOut++] = (byte) (v >> 16);
+            if (paddingNum == 1) bytesOut[offsetOut] = (byte) (v >> 8);
+        }
+        return lengthOut;
+    }
+
+    public int decode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut) {
+        // the codec of the platform signals invalid input by exceptions, so it is used on this throwing path only, never by tryDecode,
+        // the length and the padding are checked by decodeSize before, its verdict on the same alphabet is final then
+        ArrayDecoder asciiDecoder = engines.getAsciiDecoder();
+        if (asciiDecoder != null && lengthIn != 0 && offsetIn == 0 && lengthIn == asciiIn.length && offsetOut == 0 && lengthOut == bytesOut.length) {
+            if (asciiDecoder.decode(asciiIn, bytesOut) != lengthOut)
+                throw new IllegalArgumentException("input sequence is not a valid base sequence");
+            return lengthOut;
+        }
+        if (tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut) < 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return lengthOut;
+    }
+
+    public boolean isValidBaseSequence(char[] chars, int offset, int length) {
         if (length == 0) return true;
-        if (length % 4 != 0) return false;
+        if (length % 4 != 0) return indexOfInvalid(chars, offset, length) < 0;
         int bound = offset + length;
         boolean findChar = false;
         for (int i = bound - 1, ir = bound - 3; i > ir; i--) {
@@ -311,15 +1542,820 @@ final class Base64 {
                 if (findChar)
                     return false;
             } else {
-                if (!indexMap.containsKey(c))
+                if (indexTable.indexOf(c) < 0)
+                    return false;
+                findChar = true;
+            }
+        }
+        for (int i = bound - 3; i >= offset; i--) {
+            if (indexTable.indexOf(chars[i]) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isValidBaseSequence(CharSequence chars, int offset, int length) {
+        if (length == 0) return true;
+        if (length % 4 != 0) return indexOfInvalid(chars, offset, length) < 0;
+        int bound = offset + length;
+        boolean findChar = false;
+        for (int i = bound - 1, ir = bound - 3; i > ir; i--) {
+            char c = chars.charAt(i);
+            if (c == paddingChar) {
+                if (findChar)
+                    return false;
+            } else {
+                if (indexTable.indexOf(c) < 0)
+                    return false;
+                findChar = true;
+            }
+        }
+        for (int i = bound - 3; i >= offset; i--) {
+            if (indexTable.indexOf(chars.charAt(i)) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    public boolean isValidBaseSequence(byte[] ascii, int offset, int length) {
+        if (length == 0) return true;
+        if (length % 4 != 0) return indexOfInvalid(ascii, offset, length) < 0;
+        int bound = offset + length;
+        boolean findChar = false;
+        for (int i = bound - 1, ir = bound - 3; i > ir; i--) {
+            byte c = ascii[i];
+            if (c == paddingChar) {
+                if (findChar)
+                    return false;
+            } else {
+                if (indexTable.indexOf(c) < 0)
                     return false;
                 findChar = true;
             }
         }
         for (int i = bound - 3; i >= offset; i--) {
-            if (!indexMap.containsKey(chars[i]))
+            if (indexTable.indexOf(ascii[i]) < 0)
                 return false;
         }
         return true;
     }
-}
\ No newline at end of file
+
+    public int tryDecode(char[] charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(charsIn, offsetIn, lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(charsIn, offsetIn, lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(charsIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut) {
+        int lengthOut = tryDecodeSize(asciiIn, offsetIn, lengthIn);
+        if (lengthOut < 0) return -1;
+        if (bytesOut.length - offsetOut < lengthOut)
+            throw new IllegalArgumentException("output sequence does not have enough capacity");
+        return tryDecode(asciiIn, offsetIn, lengthIn, bytesOut, offsetOut, lengthOut);
+    }
+
+    public int indexOfInvalid(char[] chars, int offset, int length) {
+        // the trailing padding characters are counted first, then the characters before them must be all in the alphabet,
+        // a partial last quantum is valid only if the padding is optional, otherwise the input is truncated and the end is reported
+        int bound = offset + length, tail = length % 4, paddingNum = 0, partial = paddingRequired || TAIL_VALUES_NUM_MAP[tail] < 0 ? 0 : tail;
+        if (tail == 0) {
+            while (paddingNum < length && paddingNum < PADDING_VALUES_NUM_MAP.length - 1 && chars[bound - 1 - paddingNum] == paddingChar)
+                paddingNum++;
+        }
+        for (int i = offset, ir = bound - paddingNum; i < ir; i++) {
+            if (indexTable.indexOf(chars[i]) < 0)
+                return i;
+        }
+        if (tail != partial) return bound;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0) return bound - paddingNum;
+        return -1;
+    }
+
+    public int indexOfInvalid(CharSequence chars, int offset, int length) {
+        int bound = offset + length, tail = length % 4, paddingNum = 0, partial = paddingRequired || TAIL_VALUES_NUM_MAP[tail] < 0 ? 0 : tail;
+        if (tail == 0) {
+            while (paddingNum < length && paddingNum < PADDING_VALUES_NUM_MAP.length - 1 && chars.charAt(bound - 1 - paddingNum) == paddingChar)
+                paddingNum++;
+        }
+        for (int i = offset, ir = bound - paddingNum; i < ir; i++) {
+            if (indexTable.indexOf(chars.charAt(i)) < 0)
+                return i;
+        }
+        if (tail != partial) return bound;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0) return bound - paddingNum;
+        return -1;
+    }
+
+    public int indexOfInvalid(byte[] ascii, int offset, int length) {
+        int bound = offset + length, tail = length % 4, paddingNum = 0, partial = paddingRequired || TAIL_VALUES_NUM_MAP[tail] < 0 ? 0 : tail;
+        if (tail == 0) {
+            while (paddingNum < length && paddingNum < PADDING_VALUES_NUM_MAP.length - 1 && ascii[bound - 1 - paddingNum] == paddingChar)
+                paddingNum++;
+        }
+        for (int i = offset, ir = bound - paddingNum; i < ir; i++) {
+            if (indexTable.indexOf(ascii[i]) < 0)
+                return i;
+        }
+        if (tail != partial) return bound;
+        if (paddingNum != 0 && PADDING_VALUES_NUM_MAP[paddingNum] == 0) return bound - paddingNum;
+        return -1;
+    }
+
+    public int encodeLong(long value, char[] charsOut, int offsetOut) {
+        // 64 bits: 10 characters of 6 bits, the last 4 bits with 2 zero bits, 1 padding character
+        for (int shift = 58; shift >= 4; shift -= 6)
+            charsOut[offsetOut++] = charMap[(int) (value >>> shift) & 0x3F];
+        charsOut[offsetOut++] = charMap[(int) (value << 2) & 0x3F];
+        if (!paddingRequired)
+            return 11;
+        charsOut[offsetOut] = paddingChar;
+        return 12;
+    }
+
+    public int encodeUuid(long mostSigBits, long leastSigBits, char[] charsOut, int offsetOut) {
+        // 128 bits: 21 characters of 6 bits, one of them crosses the two longs, the last 2 bits with 4 zero bits, 2 padding characters
+        for (int shift = 58; shift >= 4; shift -= 6)
+            charsOut[offsetOut++] = charMap[(int) (mostSigBits >>> shift) & 0x3F];
+        charsOut[offsetOut++] = charMap[(int) (mostSigBits << 2 | leastSigBits >>> 62) & 0x3F];
+        for (int shift = 56; shift >= 2; shift -= 6)
+            charsOut[offsetOut++] = charMap[(int) (leastSigBits >>> shift) & 0x3F];
+        charsOut[offsetOut++] = charMap[(int) (leastSigBits << 4) & 0x3F];
+        if (!paddingRequired)
+            return 22;
+        charsOut[offsetOut++] = paddingChar;
+        charsOut[offsetOut] = paddingChar;
+        return 24;
+    }
+
+    public long decodeLong(char[] chars, int offset) {
+        long v = 0;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 10; i != bound; i++) {
+            int x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            v = v << 6 | x & 0x3F;
+        }
+        int x = indexTable.indexOf(chars[offset + 10]);
+        invalid |= x;
+        v = v << 4 | (x & 0x3F) >>> 2;
+        if (invalid < 0 || paddingRequired && chars[offset + 11] != paddingChar)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return v;
+    }
+
+    public UUID decodeUuid(char[] chars, int offset) {
+        long most = 0, least;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 10; i != bound; i++) {
+            int x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            most = most << 6 | x & 0x3F;
+        }
+        int x = indexTable.indexOf(chars[offset + 10]);
+        invalid |= x;
+        most = most << 4 | (x & 0x3F) >>> 2;
+        least = x & 0x03;
+        for (int i = offset + 11, bound = offset + 21; i != bound; i++) {
+            x = indexTable.indexOf(chars[i]);
+            invalid |= x;
+            least = least << 6 | x & 0x3F;
+        }
+        x = indexTable.indexOf(chars[offset + 21]);
+        invalid |= x;
+        least = least << 2 | (x & 0x3F) >>> 4;
+        if (invalid < 0 || paddingRequired && (chars[offset + 22] ^ paddingChar | chars[offset + 23] ^ paddingChar) != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return new UUID(most, least);
+    }
+
+    public long decodeLong(CharSequence chars, int offset) {
+        long v = 0;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 10; i != bound; i++) {
+            int x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            v = v << 6 | x & 0x3F;
+        }
+        int x = indexTable.indexOf(chars.charAt(offset + 10));
+        invalid |= x;
+        v = v << 4 | (x & 0x3F) >>> 2;
+        if (invalid < 0 || paddingRequired && chars.charAt(offset + 11) != paddingChar)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return v;
+    }
+
+    public UUID decodeUuid(CharSequence chars, int offset) {
+        long most = 0, least;
+        int invalid = 0;
+        for (int i = offset, bound = offset + 10; i != bound; i++) {
+            int x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            most = most << 6 | x & 0x3F;
+        }
+        int x = indexTable.indexOf(chars.charAt(offset + 10));
+        invalid |= x;
+        most = most << 4 | (x & 0x3F) >>> 2;
+        least = x & 0x03;
+        for (int i = offset + 11, bound = offset + 21; i != bound; i++) {
+            x = indexTable.indexOf(chars.charAt(i));
+            invalid |= x;
+            least = least << 6 | x & 0x3F;
+        }
+        x = indexTable.indexOf(chars.charAt(offset + 21));
+        invalid |= x;
+        least = least << 2 | (x & 0x3F) >>> 4;
+        if (invalid < 0 || paddingRequired && (chars.charAt(offset + 22) ^ paddingChar | chars.charAt(offset + 23) ^ paddingChar) != 0)
+            throw new IllegalArgumentException("input sequence is not a valid base sequence");
+        return new UUID(most, least);
+    }
+
+}
+
+
+interface BulkEncoder {
+    // encodes the leading blocks of a sequence of bytes, the radix engine encodes the rest, returns the number of bytes consumed,
+    // a multiple of the quantum size, or lengthIn if the whole sequence is encoded with padding, 0 if the arguments are not supported
+
+    int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut);
+
+    int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut);
+}
+
+
+final class FallbackEncoder implements BulkEncoder {
+    // the arguments the primary encoder does not support go to the fallback encoder rather than to the radix engine
+    private final BulkEncoder primary;
+    private final BulkEncoder fallback;
+
+    public FallbackEncoder(BulkEncoder primary, BulkEncoder fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int n = primary.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+        return n != 0 ? n : fallback.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int n = primary.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+        return n != 0 ? n : fallback.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+    }
+}
+
+
+interface ArrayDecoder {
+    // decodes whole arrays from the index 0, returns the number of bytes written, or -1 if the input is rejected
+
+    int decode(byte[] asciiIn, byte[] bytesOut);
+}
+
+
+interface SequenceDecoder {
+    // the radix engines decoding a set of characters into a byte array, lengthOut is the decode size, returns -1 if the set is invalid
+
+    int tryDecode(CharSequence charsIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut);
+}
+
+
+interface CalibratedEngine {
+    // the radix engines encoding the bulk of a sequence through the specified BulkEncoder, null for their own loops,
+    // the ArrayDecoder is calibrated against their own ASCII decoding
+
+    int encodeSize(int length);
+
+    int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut, int lengthOut);
+
+    int encode(BulkEncoder bulkEncoder, byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut, int lengthOut);
+
+    int tryDecode(byte[] asciiIn, int offsetIn, int lengthIn, byte[] bytesOut, int offsetOut, int lengthOut);
+}
+
+
+final class UnrolledBase16Encoder implements BulkEncoder {
+    // 4 bytes per step through the pair tables of the radix engine
+    private final char[] pairMap;
+    private final byte[] asciiPairMap;
+
+    public UnrolledBase16Encoder(char[] pairMap, byte[] asciiPairMap) {
+        this.pairMap = pairMap;
+        this.asciiPairMap = asciiPairMap;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - (lengthIn & 3); offsetIn != boundIn; offsetIn += 4, offsetOut += 8) {
+            int a = (bytesIn[offsetIn] & 0xFF) << 1, b = (bytesIn[offsetIn + 1] & 0xFF) << 1,
+                    c = (bytesIn[offsetIn + 2] & 0xFF) << 1, d = (bytesIn[offsetIn + 3] & 0xFF) << 1;
+            charsOut[offsetOut] = pairMap[a];
+            charsOut[offsetOut + 1] = pairMap[a | 1];
+            charsOut[offsetOut + 2] = pairMap[b];
+            charsOut[offsetOut + 3] = pairMap[b | 1];
+            charsOut[offsetOut + 4] = pairMap[c];
+            charsOut[offsetOut + 5] = pairMap[c | 1];
+            charsOut[offsetOut + 6] = pairMap[d];
+            charsOut[offsetOut + 7] = pairMap[d | 1];
+        }
+        return offsetIn - start;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - (lengthIn & 3); offsetIn != boundIn; offsetIn += 4, offsetOut += 8) {
+            int a = (bytesIn[offsetIn] & 0xFF) << 1, b = (bytesIn[offsetIn + 1] & 0xFF) << 1,
+                    c = (bytesIn[offsetIn + 2] & 0xFF) << 1, d = (bytesIn[offsetIn + 3] & 0xFF) << 1;
+            asciiOut[offsetOut] = asciiPairMap[a];
+            asciiOut[offsetOut + 1] = asciiPairMap[a | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[b];
+            asciiOut[offsetOut + 3] = asciiPairMap[b | 1];
+            asciiOut[offsetOut + 4] = asciiPairMap[c];
+            asciiOut[offsetOut + 5] = asciiPairMap[c | 1];
+            asciiOut[offsetOut + 6] = asciiPairMap[d];
+            asciiOut[offsetOut + 7] = asciiPairMap[d | 1];
+        }
+        return offsetIn - start;
+    }
+}
+
+
+final class UnrolledBase32Encoder implements BulkEncoder {
+    // 10 bytes per step, each 10 bits of a quantum are mapped to a pair of characters {high low} by a 1024 entries table
+    private final char[] pairMap;
+    private final byte[] asciiPairMap;
+
+    public UnrolledBase32Encoder(char[] alphabet) {
+        this.pairMap = new char[2048];
+        for (int i = 0; i < 1024; i++) {
+            pairMap[i << 1] = alphabet[i >> 5];
+            pairMap[i << 1 | 1] = alphabet[i & 0x1F];
+        }
+        this.asciiPairMap = ArrayFunctions.isAscii(alphabet) ? ArrayFunctions.toAscii(pairMap) : null;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - lengthIn % 10; offsetIn != boundIn; offsetIn += 5, offsetOut += 8) {
+            long v = PlatformFunctions.getInt40(bytesIn, offsetIn);
+            int a = (int) (v >>> 29) & 0x7FE, b = (int) (v >>> 19) & 0x7FE, c = (int) (v >>> 9) & 0x7FE, d = (int) (v << 1) & 0x7FE;
+            charsOut[offsetOut] = pairMap[a];
+            charsOut[offsetOut + 1] = pairMap[a | 1];
+            charsOut[offsetOut + 2] = pairMap[b];
+            charsOut[offsetOut + 3] = pairMap[b | 1];
+            charsOut[offsetOut + 4] = pairMap[c];
+            charsOut[offsetOut + 5] = pairMap[c | 1];
+            charsOut[offsetOut + 6] = pairMap[d];
+            charsOut[offsetOut + 7] = pairMap[d | 1];
+            v = PlatformFunctions.getInt40(bytesIn, offsetIn += 5);
+            a = (int) (v >>> 29) & 0x7FE;
+            b = (int) (v >>> 19) & 0x7FE;
+            c = (int) (v >>> 9) & 0x7FE;
+            d = (int) (v << 1) & 0x7FE;
+            charsOut[offsetOut += 8] = pairMap[a];
+            charsOut[offsetOut + 1] = pairMap[a | 1];
+            charsOut[offsetOut + 2] = pairMap[b];
+            charsOut[offsetOut + 3] = pairMap[b | 1];
+            charsOut[offsetOut + 4] = pairMap[c];
+            charsOut[offsetOut + 5] = pairMap[c | 1];
+            charsOut[offsetOut + 6] = pairMap[d];
+            charsOut[offsetOut + 7] = pairMap[d | 1];
+        }
+        return offsetIn - start;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - lengthIn % 10; offsetIn != boundIn; offsetIn += 5, offsetOut += 8) {
+            long v = PlatformFunctions.getInt40(bytesIn, offsetIn);
+            int a = (int) (v >>> 29) & 0x7FE, b = (int) (v >>> 19) & 0x7FE, c = (int) (v >>> 9) & 0x7FE, d = (int) (v << 1) & 0x7FE;
+            asciiOut[offsetOut] = asciiPairMap[a];
+            asciiOut[offsetOut + 1] = asciiPairMap[a | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[b];
+            asciiOut[offsetOut + 3] = asciiPairMap[b | 1];
+            asciiOut[offsetOut + 4] = asciiPairMap[c];
+            asciiOut[offsetOut + 5] = asciiPairMap[c | 1];
+            asciiOut[offsetOut + 6] = asciiPairMap[d];
+            asciiOut[offsetOut + 7] = asciiPairMap[d | 1];
+            v = PlatformFunctions.getInt40(bytesIn, offsetIn += 5);
+            a = (int) (v >>> 29) & 0x7FE;
+            b = (int) (v >>> 19) & 0x7FE;
+            c = (int) (v >>> 9) & 0x7FE;
+            d = (int) (v << 1) & 0x7FE;
+            asciiOut[offsetOut += 8] = asciiPairMap[a];
+            asciiOut[offsetOut + 1] = asciiPairMap[a | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[b];
+            asciiOut[offsetOut + 3] = asciiPairMap[b | 1];
+            asciiOut[offsetOut + 4] = asciiPairMap[c];
+            asciiOut[offsetOut + 5] = asciiPairMap[c | 1];
+            asciiOut[offsetOut + 6] = asciiPairMap[d];
+            asciiOut[offsetOut + 7] = asciiPairMap[d | 1];
+        }
+        return offsetIn - start;
+    }
+}
+
+
+final class UnrolledBase64Encoder implements BulkEncoder {
+    // 12 bytes per step, each 12 bits of a quantum are mapped to a pair of characters {high low} by a 4096 entries table
+    private final char[] pairMap;
+    private final byte[] asciiPairMap;
+
+    public UnrolledBase64Encoder(char[] alphabet) {
+        this.pairMap = new char[8192];
+        for (int i = 0; i < 4096; i++) {
+            pairMap[i << 1] = alphabet[i >> 6];
+            pairMap[i << 1 | 1] = alphabet[i & 0x3F];
+        }
+        this.asciiPairMap = ArrayFunctions.isAscii(alphabet) ? ArrayFunctions.toAscii(pairMap) : null;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - lengthIn % 12; offsetIn != boundIn; offsetIn += 3, offsetOut += 4) {
+            int v = PlatformFunctions.getInt24(bytesIn, offsetIn), h = v >>> 11 & ~1, l = v << 1 & 0x1FFE;
+            charsOut[offsetOut] = pairMap[h];
+            charsOut[offsetOut + 1] = pairMap[h | 1];
+            charsOut[offsetOut + 2] = pairMap[l];
+            charsOut[offsetOut + 3] = pairMap[l | 1];
+            v = PlatformFunctions.getInt24(bytesIn, offsetIn += 3);
+            h = v >>> 11 & ~1;
+            l = v << 1 & 0x1FFE;
+            charsOut[offsetOut += 4] = pairMap[h];
+            charsOut[offsetOut + 1] = pairMap[h | 1];
+            charsOut[offsetOut + 2] = pairMap[l];
+            charsOut[offsetOut + 3] = pairMap[l | 1];
+            v = PlatformFunctions.getInt24(bytesIn, offsetIn += 3);
+            h = v >>> 11 & ~1;
+            l = v << 1 & 0x1FFE;
+            charsOut[offsetOut += 4] = pairMap[h];
+            charsOut[offsetOut + 1] = pairMap[h | 1];
+            charsOut[offsetOut + 2] = pairMap[l];
+            charsOut[offsetOut + 3] = pairMap[l | 1];
+            v = PlatformFunctions.getInt24(bytesIn, offsetIn += 3);
+            h = v >>> 11 & ~1;
+            l = v << 1 & 0x1FFE;
+            charsOut[offsetOut += 4] = pairMap[h];
+            charsOut[offsetOut + 1] = pairMap[h | 1];
+            charsOut[offsetOut + 2] = pairMap[l];
+            charsOut[offsetOut + 3] = pairMap[l | 1];
+        }
+        return offsetIn - start;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - lengthIn % 12; offsetIn != boundIn; offsetIn += 3, offsetOut += 4) {
+            int v = PlatformFunctions.getInt24(bytesIn, offsetIn), h = v >>> 11 & ~1, l = v << 1 & 0x1FFE;
+            asciiOut[offsetOut] = asciiPairMap[h];
+            asciiOut[offsetOut + 1] = asciiPairMap[h | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[l];
+            asciiOut[offsetOut + 3] = asciiPairMap[l | 1];
+            v = PlatformFunctions.getInt24(bytesIn, offsetIn += 3);
+            h = v >>> 11 & ~1;
+            l = v << 1 & 0x1FFE;
+            asciiOut[offsetOut += 4] = asciiPairMap[h];
+            asciiOut[offsetOut + 1] = asciiPairMap[h | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[l];
+            asciiOut[offsetOut + 3] = asciiPairMap[l | 1];
+            v = PlatformFunctions.getInt24(bytesIn, offsetIn += 3);
+            h = v >>> 11 & ~1;
+            l = v << 1 & 0x1FFE;
+            asciiOut[offsetOut += 4] = asciiPairMap[h];
+            asciiOut[offsetOut + 1] = asciiPairMap[h | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[l];
+            asciiOut[offsetOut + 3] = asciiPairMap[l | 1];
+            v = PlatformFunctions.getInt24(bytesIn, offsetIn += 3);
+            h = v >>> 11 & ~1;
+            l = v << 1 & 0x1FFE;
+            asciiOut[offsetOut += 4] = asciiPairMap[h];
+            asciiOut[offsetOut + 1] = asciiPairMap[h | 1];
+            asciiOut[offsetOut + 2] = asciiPairMap[l];
+            asciiOut[offsetOut + 3] = asciiPairMap[l | 1];
+        }
+        return offsetIn - start;
+    }
+}
+
+
+final class EngineSelection {
+    // the bulk of the array encodings runs on the engine chosen per input size class, the radix engine encodes the rest:
+    //   scalar   : the table-driven loops of the radix engine
+    //   unrolled : several quanta per step through wider tables
+    //   vector   : the SIMD encoders in versions/17, base16 and base64 only
+    //   jdk      : java.util.Base64 in versions/9, whole ASCII arrays of the standard alphabets only, for decoding as well,
+    //              its array API has no offsets and its buffer API allocates the results, so the unrolled engine encodes
+    //              the character arrays and the ranges of arrays in its place
+    // ============================================================================================
+    // -Dwallf.basenencodings.engine=<all> or <small>,<large> chooses by names, the names unavailable on the runtime fall back to scalar,
+    // a value with unknown names or more than two entries is warned about and treated as unset,
+    // auto calibrates the available engines and the decoder when the first radix engine of a kind is created, unset prefers vector, then jdk,
+    // then unrolled, the vector engines reach their speed after a warm-up of about a second, so the rounds go on while any engine improves,
+    // the verdicts are kept for the other alphabets of the kind, the alphabet doesn't change the ranking
+    // ============================================================================================
+    public static final String PROPERTY = "wallf.basenencodings.engine";
+    public static final String SCALAR = "scalar";
+    public static final String UNROLLED = "unrolled";
+    public static final String VECTOR = "vector";
+    public static final String JDK = "jdk";
+    public static final String AUTO = "auto";
+    // the sequences shorter than SMALL_SIZE bytes are the small class, the samples of calibration are multiples of 3 and 16
+    public static final int SMALL_SIZE = 256;
+    private static final int SMALL_SAMPLE = 48;
+    private static final int LARGE_SAMPLE = 4800;
+    private static final int ROUNDS = 8;
+    private static final int MAX_ROUNDS = 64;
+    private static final int BYTES_PER_ROUND = 16 * 1024;
+    private static final Set<String> WARNED = new HashSet<String>();
+    private static final Map<String, String> VERDICTS = new HashMap<String, String>();
+
+    private final BulkEncoder[] charsEncoders;
+    private final BulkEncoder[] asciiEncoders;
+    private final ArrayDecoder asciiDecoder;
+
+    private EngineSelection(BulkEncoder[] charsEncoders, BulkEncoder[] asciiEncoders, ArrayDecoder asciiDecoder) {
+        this.charsEncoders = charsEncoders;
+        this.asciiEncoders = asciiEncoders;
+        this.asciiDecoder = asciiDecoder;
+    }
+
+    public BulkEncoder getCharsEncoder(int length) {
+        return charsEncoders[length < SMALL_SIZE ? 0 : 1];
+    }
+
+    public BulkEncoder getAsciiEncoder(int length) {
+        return asciiEncoders[length < SMALL_SIZE ? 0 : 1];
+    }
+
+    public ArrayDecoder getAsciiDecoder() {
+        return asciiDecoder;
+    }
+
+    public static EngineSelection select(Map<String, BulkEncoder> candidates, ArrayDecoder asciiDecoder, CalibratedEngine engine, boolean ascii) {
+        String property = getProperty();
+        if (property == null) {
+            BulkEncoder vector = candidates.get(VECTOR), unrolled = candidates.get(UNROLLED), jdk = candidates.get(JDK);
+            BulkEncoder chars = vector != null ? vector : unrolled, preferred = vector != null ? vector : jdk != null ? jdk : unrolled;
+            return newSelection(candidates, new BulkEncoder[]{chars, chars}, new BulkEncoder[]{preferred, preferred}, asciiDecoder);
+        }
+        if (property.equals(AUTO)) {
+            return newSelection(candidates,
+                    new BulkEncoder[]{calibrate(candidates, engine, SMALL_SAMPLE, false), calibrate(candidates, engine, LARGE_SAMPLE, false)},
+                    ascii ? new BulkEncoder[]{calibrate(candidates, engine, SMALL_SAMPLE, true), calibrate(candidates, engine, LARGE_SAMPLE, true)}
+                            : new BulkEncoder[2],
+                    asciiDecoder != null ? calibrate(asciiDecoder, engine, LARGE_SAMPLE) : null);
+        }
+        String[] names = property.split(",");
+        String small = names[0].trim(), large = names[names.length - 1].trim();
+        return newSelection(candidates, new BulkEncoder[]{candidates.get(small), candidates.get(large)},
+                new BulkEncoder[]{candidates.get(small), candidates.get(large)}, large.equals(JDK) ? asciiDecoder : null);
+    }
+
+    private static EngineSelection newSelection(Map<String, BulkEncoder> candidates, BulkEncoder[] charsEncoders, BulkEncoder[] asciiEncoders,
+                                                ArrayDecoder asciiDecoder) {
+        BulkEncoder jdk = candidates.get(JDK), unrolled = candidates.get(UNROLLED);
+        if (jdk != null) {
+            for (int i = 0; i < 2; i++) {
+                if (charsEncoders[i] == jdk)
+                    charsEncoders[i] = unrolled;
+                if (asciiEncoders[i] == jdk)
+                    asciiEncoders[i] = new FallbackEncoder(jdk, unrolled);
+            }
+        }
+        return new EngineSelection(charsEncoders, asciiEncoders, asciiDecoder);
+    }
+
+    private static String getProperty() {
+        String property;
+        try {
+            property = System.getProperty(PROPERTY);
+        } catch (SecurityException e) {
+            return null;
+        }
+        if (property == null)
+            return null;
+        if (property.trim().equals(AUTO))
+            return AUTO;
+        String[] names = property.split(",");
+        if (names.length > 2) {
+            warn("more than two entries in -D" + PROPERTY + "=" + property + ", the default engines are used");
+            return null;
+        }
+        for (String name : names) {
+            String n = name.trim();
+            if (!n.equals(SCALAR) && !n.equals(UNROLLED) && !n.equals(VECTOR) && !n.equals(JDK)) {
+                warn("unknown engine '" + n + "' in -D" + PROPERTY + "=" + property + ", the default engines are used");
+                return null;
+            }
+        }
+        return property;
+    }
+
+    private static void warn(String message) {
+        // the property is read for every radix engine, each value is warned about once
+        synchronized (WARNED) {
+            if (WARNED.add(message))
+                Logger.getLogger(EngineSelection.class.getName()).warning(message);
+        }
+    }
+
+    private static BulkEncoder calibrate(Map<String, BulkEncoder> candidates, final CalibratedEngine engine, final int size, final boolean ascii) {
+        final List<BulkEncoder> encoders = new ArrayList<BulkEncoder>();
+        List<String> names = new ArrayList<String>();
+        encoders.add(null);
+        names.add(SCALAR);
+        for (Map.Entry<String, BulkEncoder> e : candidates.entrySet()) {
+            // the codec of the platform encodes ASCII only
+            if (e.getValue() != null && (ascii || !e.getKey().equals(JDK))) {
+                encoders.add(e.getValue());
+                names.add(e.getKey());
+            }
+        }
+        if (encoders.size() == 1)
+            return null;
+        // one calibration at a time, the others would slow it down
+        synchronized (VERDICTS) {
+            String key = engine.getClass().getName() + names + size + (ascii ? "ascii" : "chars");
+            String verdict = VERDICTS.get(key);
+            if (verdict == null) {
+                final byte[] bytes = new byte[size];
+                new Random(size).nextBytes(bytes);
+                final int lengthOut = engine.encodeSize(size);
+                final char[] chars = ascii ? null : new char[lengthOut];
+                final byte[] asciiOut = ascii ? new byte[lengthOut] : null;
+                verdict = names.get(fastest(new Trial() {
+                    @Override
+                    void run(int candidate) {
+                        if (ascii)
+                            engine.encode(encoders.get(candidate), bytes, 0, size, asciiOut, 0, lengthOut);
+                        else
+                            engine.encode(encoders.get(candidate), bytes, 0, size, chars, 0, lengthOut);
+                    }
+                }, encoders.size(), BYTES_PER_ROUND / size));
+                VERDICTS.put(key, verdict);
+            }
+            return candidates.get(verdict);
+        }
+    }
+
+    private static ArrayDecoder calibrate(final ArrayDecoder decoder, final CalibratedEngine engine, final int size) {
+        // the decoder against the ASCII loops of the radix engine, null if those are faster
+        synchronized (VERDICTS) {
+            String key = engine.getClass().getName() + size + "decoder";
+            String verdict = VERDICTS.get(key);
+            if (verdict == null) {
+                byte[] bytes = new byte[size];
+                new Random(size).nextBytes(bytes);
+                final byte[] ascii = new byte[engine.encodeSize(size)];
+                engine.encode(null, bytes, 0, size, ascii, 0, ascii.length);
+                final byte[] bytesOut = new byte[size];
+                verdict = fastest(new Trial() {
+                    @Override
+                    void run(int candidate) {
+                        if (candidate == 0)
+                            engine.tryDecode(ascii, 0, ascii.length, bytesOut, 0, size);
+                        else
+                            decoder.decode(ascii, bytesOut);
+                    }
+                }, 2, BYTES_PER_ROUND / size) == 0 ? SCALAR : JDK;
+                VERDICTS.put(key, verdict);
+            }
+            return verdict.equals(JDK) ? decoder : null;
+        }
+    }
+
+    private static int fastest(Trial trial, int candidates, int repeats) {
+        // the rounds of all the candidates are interleaved, so they are compiled alike, the best round of each candidate counts,
+        // the rounds go on until none of them improves by an eighth for ROUNDS rounds
+        long[] best = new long[candidates];
+        Arrays.fill(best, Long.MAX_VALUE);
+        for (int round = 0, stable = 0; round < MAX_ROUNDS && stable < ROUNDS; round++) {
+            boolean improved = false;
+            for (int i = 0; i < candidates; i++) {
+                long start = System.nanoTime();
+                for (int r = 0; r < repeats; r++)
+                    trial.run(i);
+                long time = System.nanoTime() - start;
+                if (time < best[i] - (best[i] >> 3))
+                    improved = true;
+                best[i] = Math.min(best[i], time);
+            }
+            stable = improved ? 0 : stable + 1;
+        }
+        int fastest = 0;
+        for (int i = 1; i < candidates; i++) {
+            if (best[i] < best[fastest])
+                fastest = i;
+        }
+        return fastest;
+    }
+
+    private abstract static class Trial {
+        // runs a candidate once over the sample
+
+        abstract void run(int candidate);
+    }
+}
+
+
+final class OptionalEngines {
+    // the optional engines are in META-INF/versions of the multi-release JAR, they can't be loaded on the older runtimes and the engines work alone:
+    // the codec of java.util.Base64 in versions/9, the SIMD encoders in versions/17 which need --add-modules jdk.incubator.vector
+    private static final String VECTOR_BASE16 = "wallf.basenencodings.VectorBase16Encoder";
+    private static final String VECTOR_BASE64 = "wallf.basenencodings.VectorBase64Encoder";
+    private static final String JDK_BASE64 = "wallf.basenencodings.JdkBase64Codec";
+
+    public static BulkEncoder newVectorBase16(char[] alphabet) {
+        return (BulkEncoder) newInstance(VECTOR_BASE16, alphabet, null, true);
+    }
+
+    public static BulkEncoder newVectorBase64(char[] alphabet) {
+        return (BulkEncoder) newInstance(VECTOR_BASE64, alphabet, null, true);
+    }
+
+    public static BulkEncoder newJdkBase64Encoder(char[] alphabet, char padding, boolean paddingRequired) {
+        return (BulkEncoder) newInstance(JDK_BASE64, alphabet, padding, paddingRequired);
+    }
+
+    public static ArrayDecoder newJdkBase64Decoder(char[] alphabet, char padding, boolean paddingRequired) {
+        return (ArrayDecoder) newInstance(JDK_BASE64, alphabet, padding, paddingRequired);
+    }
+
+    private static Object newInstance(String className, char[] alphabet, Character padding, boolean paddingRequired) {
+        try {
+            Class<?> c = Class.forName(className);
+            return padding == null
+                    ? c.getConstructor(char[].class).newInstance((Object) alphabet)
+                    : c.getConstructor(char[].class, char.class, boolean.class).newInstance(alphabet, padding, paddingRequired);
+        } catch (Exception e) {
+            // not a multi-release JAR on a newer runtime, or the alphabet is not supported by the engine
+            return null;
+        } catch (LinkageError e) {
+            // a module of the engine is not resolved
+            return null;
+        }
+    }
+}
+
+
+final class EngineCache {
+    // engines are immutable, the encodings with the same alphabet and padding mode share one set of tables
+    private static final int CAPACITY = 64;
+    private static final Map<String, Object> CACHE = new LinkedHashMap<String, Object>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    public static Base16 getBase16(char[] alphabet) {
+        String key = new String(alphabet);
+        Base16 b = (Base16) get(key);
+        return b != null ? b : (Base16) putIfAbsent(key, new Base16(alphabet));
+    }
+
+    public static Base32 getBase32(char[] alphabet, char padding, boolean paddingRequired) {
+        String key = new String(alphabet) + padding + paddingRequired;
+        Base32 b = (Base32) get(key);
+        return b != null ? b : (Base32) putIfAbsent(key, new Base32(alphabet, padding, paddingRequired));
+    }
+
+    public static Base64 getBase64(char[] alphabet, char padding, boolean paddingRequired) {
+        String key = new String(alphabet) + padding + paddingRequired;
+        Base64 b = (Base64) get(key);
+        return b != null ? b : (Base64) putIfAbsent(key, new Base64(alphabet, padding, paddingRequired));
+    }
+
+    private static Object get(String key) {
+        synchronized (CACHE) {
+            return CACHE.get(key);
+        }
+    }
+
+    private static Object putIfAbsent(String key, Object engine) {
+        // the engines are created out of the lock, auto calibrates for a while, the first one published wins
+        synchronized (CACHE) {
+            Object e = CACHE.get(key);
+            if (e != null)
+                return e;
+            CACHE.put(key, engine);
+            return engine;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package wallf.basenencodings;
+
+
+final class PlatformFunctions {
+    // baseline for Java 6+, the multi-release JAR replaces this class by src/main/java9 on Java 9+
+
+    public static int getInt24(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFF) << 16 | (bytes[offset + 1] & 0xFF) << 8 | bytes[offset + 2] & 0xFF;
+    }
+
+    public static long getInt40(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL) << 32 | (bytes[offset + 1] & 0xFFL) << 24 | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 8 | bytes[offset + 4] & 0xFFL;
+    }
+
+    @SuppressWarnings("deprecation")
+    public static String newAsciiString(byte[] ascii) {
+        return new String(ascii, 0, 0, ascii.length);
+    }
+
+}
@@ -1,7 +1,16 @@
 package wallf.basenencodings;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 
 
 final class ArrayFunctions {
@@ -22,6 +31,21 @@ final class ArrayFunctions {
         return offset >= 0 && length >= 0 && offset + length <= arr.length;
     }
 
+    public static boolean validationInterval(CharSequence s, int offset, int length) {
+        return offset >= 0 && length >= 0 && offset + length <= s.length();
+    }
+
+    public static boolean validationOffsets(int[] offsets, int length) {
+        // the boundaries of consecutive records, offsets[i] and offsets[i + 1] reference the i-th record
+        if (offsets.length == 0 || offsets[0] < 0)
+            return false;
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1])
+                return false;
+        }
+        return offsets[offsets.length - 1] <= length;
+    }
+
     public static boolean isArrayDuplicate(char[] chars) {
         Set<Character> set = new HashSet<Character>(chars.length);
         for (char c : chars) {
@@ -41,24 +65,85 @@ final class ArrayFunctions {
         return false;
     }
 
+    public static boolean isAscii(char[] chars) {
+        for (char c : chars) {
+            if (c >= 0x80)
+                return false;
+        }
+        return true;
+    }
+
+    public static byte[] toAscii(char[] chars) {
+        byte[] r = new byte[chars.length];
+        for (int i = 0; i < chars.length; i++)
+            r[i] = (byte) chars[i];
+        return r;
+    }
+
 }
 
-final class TypeWrapper<T> {
+final class ParallelFunctions {
 
-    private T v;
+    public static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    private static final class DefaultExecutorHolder {
+        static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(PARALLELISM, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "base-n-encodings-parallel");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
 
-    public T getValue() {
-        return v;
+    public static ExecutorService getDefaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
     }
 
-    public void setValue(T v) {
-        this.v = v;
+    public static int getChunkCount(int quanta, int minQuantaPerChunk) {
+        // a few chunks per thread to balance the load between the threads
+        return Math.min(PARALLELISM * 4, quanta / minQuantaPerChunk);
     }
 
-    public TypeWrapper() {
+    public static <T> List<T> invokeAll(ExecutorService executor, List<Callable<T>> tasks) {
+        // caller-runs: the first part and every part no worker has started yet are run by the calling thread,
+        // it waits only for the parts running on the workers, so a call from a task of the same bounded executor doesn't deadlock
+        List<FutureTask<T>> futures = new ArrayList<FutureTask<T>>(tasks.size());
+        for (Callable<T> task : tasks)
+            futures.add(new FutureTask<T>(task));
+        for (int i = 1; i < futures.size(); i++) {
+            try {
+                executor.execute(futures.get(i));
+            } catch (RejectedExecutionException e) {
+                // run by the calling thread below
+            }
+        }
+        List<T> results = new ArrayList<T>(tasks.size());
+        try {
+            for (FutureTask<T> future : futures)
+                future.run();
+            for (FutureTask<T> future : futures)
+                results.add(future.get());
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for the parallel tasks", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+        return results;
     }
 
-    public TypeWrapper(T v) {
-        this.v = v;
+    private static <T> void cancelAll(List<FutureTask<T>> futures) {
+        for (FutureTask<T> future : futures)
+            future.cancel(false);
     }
-}
\ No newline at end of file
+
+}
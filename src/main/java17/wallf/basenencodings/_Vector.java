@@ -0,0 +1,134 @@
+package wallf.basenencodings;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+
+final class VectorFunctions {
+    // 128 bits are supported by every SIMD instruction set the Vector API intrinsifies, the wider shapes need lane-crossing shuffles
+    public static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+
+    public static void checkHardware() {
+        // without SIMD registers the Vector API runs as plain Java, much slower than the scalar engines
+        if (ByteVector.SPECIES_PREFERRED.vectorBitSize() < SPECIES.vectorBitSize())
+            throw new UnsupportedOperationException("SIMD instructions are not available");
+    }
+
+    public static void intoCharArray(ByteVector ascii, char[] charsOut, int offsetOut) {
+        ((ShortVector) ascii.convertShape(VectorOperators.B2S, ShortVector.SPECIES_256, 0)).intoCharArray(charsOut, offsetOut);
+    }
+}
+
+
+final class VectorBase16Encoder implements BulkEncoder {
+    // 16 bytes to 32 characters per step, the nibbles are mapped by ranges and widened to the character pairs {high low}(little-endian)
+    private final byte offsetLetter;
+
+    public VectorBase16Encoder(char[] alphabet) {
+        VectorFunctions.checkHardware();
+        // the alphabets are the 10 digits followed by 6 consecutive ASCII characters, upper or lower case letters as usual
+        if (!"0123456789".equals(new String(alphabet, 0, 10)) || alphabet[10] >= 0x80 - 6)
+            throw new IllegalArgumentException("alphabet is not supported");
+        for (int i = 11; i < 16; i++) {
+            if (alphabet[i] != alphabet[10] + i - 10)
+                throw new IllegalArgumentException("alphabet is not supported");
+        }
+        this.offsetLetter = (byte) (alphabet[10] - 10);
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int start = offsetIn, boundIn = offsetIn + lengthIn - lengthIn % 16;
+        for (; offsetIn != boundIn; offsetIn += 16, offsetOut += 32) {
+            ByteVector pairs = encodeBlock(bytesIn, offsetIn);
+            ((ShortVector) pairs.convertShape(VectorOperators.B2S, ShortVector.SPECIES_256, 0)).intoCharArray(charsOut, offsetOut);
+            ((ShortVector) pairs.convertShape(VectorOperators.B2S, ShortVector.SPECIES_256, 1)).intoCharArray(charsOut, offsetOut + 16);
+        }
+        return offsetIn - start;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int start = offsetIn, boundIn = offsetIn + lengthIn - lengthIn % 16;
+        for (; offsetIn != boundIn; offsetIn += 16, offsetOut += 32)
+            encodeBlock(bytesIn, offsetIn).intoArray(asciiOut, offsetOut);
+        return offsetIn - start;
+    }
+
+    private ByteVector encodeBlock(byte[] bytesIn, int offsetIn) {
+        ByteVector v = ByteVector.fromArray(VectorFunctions.SPECIES, bytesIn, offsetIn);
+        ShortVector high = (ShortVector) toCharacters(v.lanewise(VectorOperators.LSHR, 4).and((byte) 0x0F))
+                .convertShape(VectorOperators.B2S, ShortVector.SPECIES_256, 0);
+        ShortVector low = (ShortVector) toCharacters(v.and((byte) 0x0F))
+                .convertShape(VectorOperators.B2S, ShortVector.SPECIES_256, 0);
+        return high.or(low.lanewise(VectorOperators.LSHL, 8)).reinterpretAsBytes();
+    }
+
+    private ByteVector toCharacters(ByteVector nibbles) {
+        ByteVector offsets = ByteVector.broadcast(VectorFunctions.SPECIES, (byte) '0')
+                .blend(offsetLetter, nibbles.compare(VectorOperators.GE, (byte) 10));
+        return nibbles.add(offsets);
+    }
+}
+
+
+final class VectorBase64Encoder implements BulkEncoder {
+    // 12 bytes to 16 characters per step, 16 bytes are loaded, so the last 4 bytes of the input are left to the scalar engine
+    // ============================================================================================
+    // a 3 bytes group {a b c} is shuffled to the int lane {b a c b}(little-endian), the 4 indices are shifted out of it
+    // ============================================================================================
+    private static final String STANDARD_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final VectorShuffle<Byte> SPLIT = VectorShuffle.fromValues(VectorFunctions.SPECIES,
+            1, 0, 2, 1, 4, 3, 5, 4, 7, 6, 8, 7, 10, 9, 11, 10);
+
+    private final byte offset62;
+    private final byte offset63;
+
+    public VectorBase64Encoder(char[] alphabet) {
+        VectorFunctions.checkHardware();
+        // the indices are mapped by ranges, the alphabets differ from the standard one only in the last two characters
+        if (!STANDARD_ALPHABET.equals(new String(alphabet, 0, 62)) || alphabet[62] >= 0x80 || alphabet[63] >= 0x80)
+            throw new IllegalArgumentException("alphabet is not supported");
+        this.offset62 = (byte) (alphabet[62] - 62);
+        this.offset63 = (byte) (alphabet[63] - 63);
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - 16; offsetIn <= boundIn; offsetIn += 12, offsetOut += 16)
+            VectorFunctions.intoCharArray(encodeBlock(bytesIn, offsetIn), charsOut, offsetOut);
+        return offsetIn - start;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        int start = offsetIn;
+        for (int boundIn = offsetIn + lengthIn - 16; offsetIn <= boundIn; offsetIn += 12, offsetOut += 16)
+            encodeBlock(bytesIn, offsetIn).intoArray(asciiOut, offsetOut);
+        return offsetIn - start;
+    }
+
+    private ByteVector encodeBlock(byte[] bytesIn, int offsetIn) {
+        IntVector w = ByteVector.fromArray(VectorFunctions.SPECIES, bytesIn, offsetIn).rearrange(SPLIT).reinterpretAsInts();
+        ByteVector indices = w.lanewise(VectorOperators.LSHR, 10).and(0x3F)
+                .or(w.lanewise(VectorOperators.LSHL, 4).and(0x3F00))
+                .or(w.lanewise(VectorOperators.LSHR, 6).and(0x3F0000))
+                .or(w.lanewise(VectorOperators.LSHL, 8).and(0x3F000000))
+                .reinterpretAsBytes();
+        // 0..25 'A'.., 26..51 'a'.., 52..61 '0'.., 62 and 63 by the alphabet
+        VectorMask<Byte> lower = indices.compare(VectorOperators.GE, (byte) 26);
+        VectorMask<Byte> digit = indices.compare(VectorOperators.GE, (byte) 52);
+        ByteVector offsets = ByteVector.broadcast(VectorFunctions.SPECIES, (byte) 'A')
+                .blend((byte) ('a' - 26), lower)
+                .blend((byte) ('0' - 52), digit)
+                .blend(offset62, indices.compare(VectorOperators.EQ, (byte) 62))
+                .blend(offset63, indices.compare(VectorOperators.EQ, (byte) 63));
+        return indices.add(offsets);
+    }
+}
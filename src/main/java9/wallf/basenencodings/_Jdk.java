@@ -0,0 +1,51 @@
+package wallf.basenencodings;
+
+
+final class JdkBase64Codec implements BulkEncoder, ArrayDecoder {
+    // java.util.Base64 is intrinsified by HotSpot, it is used for the standard alphabets with '=' padding only
+    private final java.util.Base64.Encoder encoder;
+    private final java.util.Base64.Decoder decoder;
+
+    public JdkBase64Codec(char[] alphabet, char padding, boolean paddingRequired) {
+        String s = new String(alphabet);
+        java.util.Base64.Encoder e;
+        if (padding != Base64Encoding.STANDARD_PADDING)
+            throw new IllegalArgumentException("padding is not supported");
+        if (s.equals(Base64Encoding.STANDARD_ALPHABET)) {
+            e = java.util.Base64.getEncoder();
+            this.decoder = java.util.Base64.getDecoder();
+        } else if (s.equals(Base64SafeEncoding.STANDARD_ALPHABET)) {
+            e = java.util.Base64.getUrlEncoder();
+            this.decoder = java.util.Base64.getUrlDecoder();
+        } else {
+            throw new IllegalArgumentException("alphabet is not supported");
+        }
+        // the decoder accepts the unpadded sequences anyway, the lengths are checked by the radix engine before
+        this.encoder = paddingRequired ? e : e.withoutPadding();
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+        // the codec encodes ASCII only, EngineSelection selects the unrolled engine for the characters
+        return 0;
+    }
+
+    @Override
+    public int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+        // the array API of the codec has no offsets, the ranges of arrays go to the fallback encoder of EngineSelection
+        if (offsetIn != 0 || lengthIn != bytesIn.length || offsetOut != 0)
+            return 0;
+        encoder.encode(bytesIn, asciiOut);
+        return lengthIn;
+    }
+
+    @Override
+    public int decode(byte[] asciiIn, byte[] bytesOut) {
+        // called by the throwing decode path only, after the checks of the length and the padding, a rejection is final there
+        try {
+            return decoder.decode(asciiIn, bytesOut);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
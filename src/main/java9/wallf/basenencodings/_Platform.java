@@ -0,0 +1,34 @@
+package wallf.basenencodings;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+
+final class PlatformFunctions {
+    // Java 9+ variant in META-INF/versions/9, it must keep the same members as the baseline in src/main/java
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    public static int getInt24(byte[] bytes, int offset) {
+        // one wide load when the array has the spare byte, the last quantum of the array falls back to single bytes
+        if (bytes.length - offset >= 4)
+            return (int) INT.get(bytes, offset) >>> 8;
+        return (bytes[offset] & 0xFF) << 16 | (bytes[offset + 1] & 0xFF) << 8 | bytes[offset + 2] & 0xFF;
+    }
+
+    public static long getInt40(byte[] bytes, int offset) {
+        if (bytes.length - offset >= 8)
+            return (long) LONG.get(bytes, offset) >>> 24;
+        return (bytes[offset] & 0xFFL) << 32 | (bytes[offset + 1] & 0xFFL) << 24 | (bytes[offset + 2] & 0xFFL) << 16
+                | (bytes[offset + 3] & 0xFFL) << 8 | bytes[offset + 4] & 0xFFL;
+    }
+
+    public static String newAsciiString(byte[] ascii) {
+        // compact strings take the ISO-8859-1 bytes as they are
+        return new String(ascii, StandardCharsets.ISO_8859_1);
+    }
+
+}
@@ -0,0 +1,257 @@
+package wallf.basenencodings;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BaseEncodingTest {
+
+    // the test vectors of RFC 4648 section 10
+    private static final String[] INPUTS = {"", "f", "fo", "foo", "foob", "fooba", "foobar"};
+    private static final String[] BASE16 = {"", "66", "666F", "666F6F", "666F6F62", "666F6F6261", "666F6F626172"};
+    private static final String[] BASE32 = {"", "MY======", "MZXQ====", "MZXW6===", "MZXW6YQ=", "MZXW6YTB", "MZXW6YTBOI======"};
+    private static final String[] BASE32_HEX = {"", "CO======", "CPNG====", "CPNMU===", "CPNMUOG=", "CPNMUOJ1", "CPNMUOJ1E8======"};
+    private static final String[] BASE64 = {"", "Zg==", "Zm8=", "Zm9v", "Zm9vYg==", "Zm9vYmE=", "Zm9vYmFy"};
+
+    private static final BaseEncoding[] ENCODINGS = {
+            BaseEncoding.getBase16(), BaseEncoding.getBase32(), BaseEncoding.getBase32Hex(), BaseEncoding.getBase64(), BaseEncoding.getBase64Safe(),
+            BaseEncoding.getBase32().withoutPadding(), BaseEncoding.getBase32Hex().withoutPadding(),
+            BaseEncoding.getBase64().withoutPadding(), BaseEncoding.getBase64Safe().withoutPadding(),
+            BaseEncoding.getBase64Mime(), BaseEncoding.getBase64Pem()
+    };
+
+    @Test
+    public void encodesTheVectorsOfRfc4648() {
+        assertVectors(BaseEncoding.getBase16(), BASE16);
+        assertVectors(BaseEncoding.getBase32(), BASE32);
+        assertVectors(BaseEncoding.getBase32Hex(), BASE32_HEX);
+        assertVectors(BaseEncoding.getBase64(), BASE64);
+    }
+
+    @Test
+    public void encodesTheVectorsOfRfc4648WithoutPadding() {
+        assertVectors(BaseEncoding.getBase32().withoutPadding(), removePadding(BASE32));
+        assertVectors(BaseEncoding.getBase32Hex().withoutPadding(), removePadding(BASE32_HEX));
+        assertVectors(BaseEncoding.getBase64().withoutPadding(), removePadding(BASE64));
+    }
+
+    @Test
+    public void decodesPaddedSequencesWhenThePaddingIsOptional() {
+        for (int i = 0; i < INPUTS.length; i++) {
+            assertArrayEquals(bytes(INPUTS[i]), BaseEncoding.getBase32().withoutPadding().fromBaseString(BASE32[i]));
+            assertArrayEquals(bytes(INPUTS[i]), BaseEncoding.getBase64().withoutPadding().fromBaseString(BASE64[i]));
+        }
+    }
+
+    @Test
+    public void rejectsUnpaddedSequencesWhenThePaddingIsRequired() {
+        assertNull(BaseEncoding.getBase64().tryFromBaseString("Zg"));
+        assertNull(BaseEncoding.getBase32().tryFromBaseString("MZXQ"));
+        assertFalse(BaseEncoding.getBase64().isValidBaseString("Zm8"));
+    }
+
+    @Test
+    public void encodesTheSafeAlphabet() {
+        byte[] bytes = {(byte) 0xFB, (byte) 0xFF};
+        assertEquals("+/8=", BaseEncoding.getBase64().toBaseString(bytes));
+        assertEquals("-_8=", BaseEncoding.getBase64Safe().toBaseString(bytes));
+        assertArrayEquals(bytes, BaseEncoding.getBase64Safe().fromBaseString("-_8="));
+        assertNull(BaseEncoding.getBase64Safe().tryFromBaseString("+/8="));
+    }
+
+    @Test
+    public void withoutPaddingReturnsTheSameInstance() {
+        assertSame(BaseEncoding.getBase16(), BaseEncoding.getBase16().withoutPadding());
+        assertSame(BaseEncoding.getBase64().withoutPadding(), BaseEncoding.getBase64().withoutPadding());
+        assertSame(BaseEncoding.getBase32().withoutPadding(), BaseEncoding.getBase32().withoutPadding().withoutPadding());
+    }
+
+    @Test
+    public void roundTripsEveryLengthThroughEveryApi() {
+        Random random = new Random(4648);
+        for (BaseEncoding encoding : ENCODINGS) {
+            for (int length = 0; length < 300; length++) {
+                byte[] bytes = new byte[length + 3];
+                random.nextBytes(bytes);
+                byte[] expected = Arrays.copyOfRange(bytes, 1, length + 1);
+                String s = encoding.toBaseString(bytes, 1, length);
+                String message = encoding.getEncodingName() + ", length " + length;
+
+                assertEquals(message, s, new String(encoding.encode(expected)));
+                assertArrayEquals(message, ascii(s), encoding.encodeToAscii(expected));
+                assertArrayEquals(message, expected, encoding.fromBaseString(s));
+                assertArrayEquals(message, expected, encoding.tryFromBaseString(s));
+                assertArrayEquals(message, expected, encoding.decode(s.toCharArray()));
+                assertArrayEquals(message, expected, encoding.decode(new StringBuilder(s)));
+                assertArrayEquals(message, expected, encoding.decodeFromAscii(ascii(s)));
+                assertTrue(message, encoding.isValidBaseString(s));
+
+                // the ranges of larger arrays
+                char[] chars = ("**" + s + "**").toCharArray();
+                byte[] out = new byte[length + 4];
+                assertEquals(message, length, encoding.decode(chars, 2, s.length(), out, 2));
+                assertArrayEquals(message, expected, Arrays.copyOfRange(out, 2, length + 2));
+
+                // the buffers
+                ByteBuffer decoded = ByteBuffer.allocate(length);
+                encoding.decode(CharBuffer.wrap(s), decoded);
+                assertArrayEquals(message, expected, decoded.array());
+                CharBuffer encoded = CharBuffer.allocate(s.length());
+                encoding.encode(ByteBuffer.wrap(expected), encoded);
+                assertEquals(message, s, new String(encoded.array()));
+            }
+        }
+    }
+
+    @Test
+    public void tryDecodeReportsTheAbsoluteIndexOfTheFirstInvalidCharacter() {
+        BaseEncoding base64 = BaseEncoding.getBase64();
+        byte[] out = new byte[16];
+        assertEquals(-7, base64.tryDecode("xxZm9v*g==", 2, 8, out, 0));
+        assertEquals(-7, base64.tryDecode("xxZm9v*g==".toCharArray(), 2, 8, out, 0));
+        assertEquals(-7, base64.tryDecodeFromAscii(ascii("xxZm9v*g=="), 2, 8, out, 0));
+        // a padding character in the middle
+        assertEquals(-3, base64.tryDecode("Zm=vYg==", 0, 8, out, 0));
+        assertEquals(-1, BaseEncoding.getBase32().tryDecode("*ZXW6===", 0, 8, out, 0));
+        assertEquals(-3, BaseEncoding.getBase16().tryDecode("66G6", 0, 4, out, 0));
+    }
+
+    @Test
+    public void tryDecodeReportsTheEndOfATruncatedSequence() {
+        byte[] out = new byte[16];
+        assertEquals(-7, BaseEncoding.getBase64().tryDecode("Zm9vYg", 0, 6, out, 0));
+        assertEquals(-11, BaseEncoding.getBase64().tryDecode("xxxxZm9vYg", 4, 6, out, 0));
+        assertEquals(-4, BaseEncoding.getBase16().tryDecode("666", 0, 3, out, 0));
+    }
+
+    @Test
+    public void tryDecodeReturnsTheNumberOfBytesOfAValidSequence() {
+        byte[] out = new byte[16];
+        assertEquals(4, BaseEncoding.getBase64().tryDecode("Zm9vYg==", 0, 8, out, 3));
+        assertArrayEquals(bytes("foob"), Arrays.copyOfRange(out, 3, 7));
+    }
+
+    @Test
+    public void decodeLenientSkipsTheIgnorableCharacters() {
+        assertArrayEquals(bytes("foobar"), BaseEncoding.getBase64().decodeLenient(" Zm9v\r\n\tYmFy "));
+        assertArrayEquals(bytes("foobar"), BaseEncoding.getBase64().decodeLenient("Zm-9v-YmFy", "-"));
+        assertArrayEquals(bytes("fooba"), BaseEncoding.getBase64().decodeLenientFromAscii(ascii("Zm9v\r\nYmE=\r\n")));
+        try {
+            BaseEncoding.getBase64().decodeLenient("Zm\r\n9*YmFy");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("index 5"));
+        }
+    }
+
+    @Test
+    public void rejectsOtherCharactersInThePadding() {
+        String[] base32 = {"MZXQ==*=", "MY=*====", "MZXW6=A=", "MZXQ===A"};
+        for (String s : base32) {
+            assertNull(s, BaseEncoding.getBase32().tryFromBaseString(s));
+            assertNull(s, BaseEncoding.getBase32().withoutPadding().tryFromBaseString(s));
+            assertFalse(s, BaseEncoding.getBase32().isValidBaseString(s));
+        }
+        String[] base64 = {"Zg=v", "Zg*=", "Zm9vZ==="};
+        for (String s : base64) {
+            assertNull(s, BaseEncoding.getBase64().tryFromBaseString(s));
+            assertNull(s, BaseEncoding.getBase64().withoutPadding().tryFromBaseString(s));
+            assertFalse(s, BaseEncoding.getBase64().isValidBaseString(s));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsDataAfterThePadding() {
+        BaseEncoding.getBase64().fromBaseString("Zg==Zg==");
+    }
+
+    @Test
+    public void decodeBatchDecodesEveryRecord() {
+        BaseEncoding base32 = BaseEncoding.getBase32();
+        StringBuilder sb = new StringBuilder();
+        int[] offsetsIn = new int[INPUTS.length + 1];
+        for (int i = 0; i < INPUTS.length; i++) {
+            sb.append(BASE32[i]);
+            offsetsIn[i + 1] = sb.length();
+        }
+        int[] offsetsOut = new int[offsetsIn.length];
+        byte[] bytes = base32.decodeBatch(sb.toString().toCharArray(), offsetsIn, offsetsOut);
+        for (int i = 0; i < INPUTS.length; i++)
+            assertArrayEquals(bytes(INPUTS[i]), Arrays.copyOfRange(bytes, offsetsOut[i], offsetsOut[i + 1]));
+    }
+
+    @Test
+    public void encodesAndDecodesIncrementally() {
+        Random random = new Random(2045);
+        for (BaseEncoding encoding : ENCODINGS) {
+            byte[] bytes = new byte[500];
+            random.nextBytes(bytes);
+            String s = encoding.toBaseString(bytes);
+            // every split position of the input, through the quanta and the line separators
+            for (int split = 0; split <= bytes.length; split += 7) {
+                BaseEncoder encoder = encoding.newEncoder();
+                String encoded = new String(encoder.update(bytes, 0, split)) + new String(encoder.update(bytes, split, bytes.length - split))
+                        + new String(encoder.finish());
+                assertEquals(encoding.getEncodingName() + ", split " + split, s, encoded);
+            }
+            for (int split = 0; split <= s.length(); split++) {
+                BaseDecoder decoder = encoding.newDecoder();
+                char[] chars = s.toCharArray();
+                byte[] first = decoder.update(chars, 0, split), second = decoder.update(chars, split, chars.length - split), last = decoder.finish();
+                assertArrayEquals(encoding.getEncodingName() + ", split " + split, bytes, concat(first, second, last));
+            }
+        }
+    }
+
+    private static void assertVectors(BaseEncoding encoding, String[] vectors) {
+        for (int i = 0; i < INPUTS.length; i++) {
+            assertEquals(vectors[i], encoding.toBaseString(bytes(INPUTS[i])));
+            assertArrayEquals(ascii(vectors[i]), encoding.encodeToAscii(bytes(INPUTS[i])));
+            assertArrayEquals(bytes(INPUTS[i]), encoding.fromBaseString(vectors[i]));
+            assertArrayEquals(bytes(INPUTS[i]), encoding.decodeFromAscii(ascii(vectors[i])));
+            assertEquals(INPUTS[i].length(), encoding.getDecodeCount(vectors[i], 0, vectors[i].length()));
+        }
+    }
+
+    private static String[] removePadding(String[] vectors) {
+        String[] r = new String[vectors.length];
+        for (int i = 0; i < vectors.length; i++)
+            r[i] = vectors[i].replace("=", "");
+        return r;
+    }
+
+    static byte[] bytes(String s) {
+        return ascii(s);
+    }
+
+    static byte[] ascii(String s) {
+        byte[] r = new byte[s.length()];
+        for (int i = 0; i < r.length; i++)
+            r[i] = (byte) s.charAt(i);
+        return r;
+    }
+
+    static byte[] concat(byte[]... arrays) {
+        int length = 0;
+        for (byte[] a : arrays)
+            length += a.length;
+        byte[] r = new byte[length];
+        int offset = 0;
+        for (byte[] a : arrays) {
+            System.arraycopy(a, 0, r, offset, a.length);
+            offset += a.length;
+        }
+        return r;
+    }
+}
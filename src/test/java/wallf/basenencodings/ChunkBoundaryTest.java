@@ -0,0 +1,180 @@
+package wallf.basenencodings;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static wallf.basenencodings.BaseEncodingTest.ascii;
+
+public class ChunkBoundaryTest {
+
+    // more than two parts of 2^16 quanta for the parallel methods, more than three windows of 2^18 quanta for the file methods, the tails are partial quanta
+    private static final int PARALLEL_SIZE = 3 * (1 << 16) * 5 + 7;
+    private static final int FILE_SIZE = 3 * (1 << 18) * 3 + 2;
+
+    private static final BaseEncoding[] ENCODINGS = {
+            BaseEncoding.getBase16(), BaseEncoding.getBase32(), BaseEncoding.getBase64(), BaseEncoding.getBase64().withoutPadding(),
+            BaseEncoding.getBase64Mime(), BaseEncoding.getBase64Pem()
+    };
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @AfterClass
+    public static void shutdown() {
+        EXECUTOR.shutdown();
+    }
+
+    @Test
+    public void parallelMethodsMatchTheSequentialOnes() {
+        byte[] bytes = randomBytes(PARALLEL_SIZE, 1);
+        for (BaseEncoding encoding : ENCODINGS) {
+            String s = encoding.toBaseString(bytes);
+            assertEquals(encoding.getEncodingName(), s, new String(encoding.encodeParallel(bytes, 0, bytes.length, EXECUTOR)));
+            assertEquals(encoding.getEncodingName(), s, new String(encoding.encodeParallel(bytes)));
+            char[] chars = s.toCharArray();
+            assertArrayEquals(encoding.getEncodingName(), bytes, encoding.decodeParallel(chars, 0, chars.length, EXECUTOR));
+            assertArrayEquals(encoding.getEncodingName(), bytes, encoding.decodeParallel(chars));
+        }
+    }
+
+    @Test
+    public void parallelMethodsEncodeTheRangesOfArrays() {
+        byte[] bytes = randomBytes(PARALLEL_SIZE, 2);
+        BaseEncoding mime = BaseEncoding.getBase64Mime();
+        String s = mime.toBaseString(bytes, 5, bytes.length - 9);
+        assertEquals(s, new String(mime.encodeParallel(bytes, 5, bytes.length - 9, EXECUTOR)));
+        char[] chars = ("**" + s + "**").toCharArray();
+        assertEquals(bytes.length - 9, mime.decodeParallel(chars, 2, s.length(), EXECUTOR).length);
+    }
+
+    @Test
+    public void parallelDecodeReportsTheIndexOfTheFirstInvalidCharacter() {
+        byte[] bytes = randomBytes(PARALLEL_SIZE, 3);
+        for (BaseEncoding encoding : ENCODINGS) {
+            char[] chars = encoding.toBaseString(bytes).toCharArray();
+            // the last character before the padding, a padding character followed by another one is the first invalid character itself
+            int last = chars.length - 1;
+            while (chars[last] == encoding.getPaddingCharacter())
+                last--;
+            int[] indices = {0, chars.length / 3 + 1, chars.length / 2, last};
+            for (int index : indices) {
+                while (encoding.getLineSeparator().indexOf(chars[index]) >= 0)
+                    index++;
+                char c = chars[index];
+                chars[index] = '*';
+                try {
+                    encoding.decodeParallel(chars, 0, chars.length, EXECUTOR);
+                    fail(encoding.getEncodingName() + ", index " + index);
+                } catch (IllegalArgumentException e) {
+                    assertTrue(e.getMessage(), e.getMessage().endsWith("index " + index));
+                }
+                chars[index] = c;
+            }
+        }
+    }
+
+    @Test
+    public void streamsMatchTheArrayMethodsAtEveryWriteAndReadSize() throws IOException {
+        byte[] bytes = randomBytes(10000, 4);
+        for (BaseEncoding encoding : ENCODINGS) {
+            String s = encoding.toBaseString(bytes);
+            for (int step = 1; step <= 13; step += 3) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                EncodingOutputStream encoder = new EncodingOutputStream(encoding, out);
+                for (int offset = 0; offset < bytes.length; offset += step)
+                    encoder.write(bytes, offset, Math.min(step, bytes.length - offset));
+                encoder.close();
+                assertArrayEquals(encoding.getEncodingName() + ", step " + step, ascii(s), out.toByteArray());
+
+                StringWriter writer = new StringWriter();
+                encoder = new EncodingOutputStream(encoding, writer);
+                for (int offset = 0; offset < bytes.length; offset += step)
+                    encoder.write(bytes, offset, Math.min(step, bytes.length - offset));
+                encoder.close();
+                assertEquals(encoding.getEncodingName() + ", step " + step, s, writer.toString());
+
+                // the underlying stream returns a few characters per read, so the quanta and the separators are split across reads
+                assertArrayEquals(encoding.getEncodingName() + ", step " + step, bytes,
+                        readAll(new DecodingInputStream(encoding, new TrickleInputStream(ascii(s), step)), step + 1));
+                assertArrayEquals(encoding.getEncodingName() + ", step " + step, bytes, readAll(new DecodingInputStream(encoding, new StringReader(s)), step));
+            }
+        }
+    }
+
+    @Test
+    public void fileMethodsMatchTheArrayMethodsAcrossTheWindows() throws IOException {
+        byte[] bytes = randomBytes(FILE_SIZE, 5);
+        File in = File.createTempFile("chunk", ".bin"), encoded = File.createTempFile("chunk", ".txt"), decoded = File.createTempFile("chunk", ".bin");
+        try {
+            write(in, bytes);
+            for (BaseEncoding encoding : ENCODINGS) {
+                encoding.encodeFile(in, encoded);
+                assertArrayEquals(encoding.getEncodingName(), encoding.encodeToAscii(bytes), read(encoded));
+                encoding.decodeFile(encoded, decoded);
+                assertArrayEquals(encoding.getEncodingName(), bytes, read(decoded));
+            }
+        } finally {
+            in.delete();
+            encoded.delete();
+            decoded.delete();
+        }
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] readAll(InputStream in, int step) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[step];
+        for (int n; (n = in.read(buffer, 0, buffer.length)) >= 0; )
+            out.write(buffer, 0, n);
+        in.close();
+        return out.toByteArray();
+    }
+
+    private static void write(File file, byte[] bytes) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(bytes);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static byte[] read(File file) throws IOException {
+        return readAll(new FileInputStream(file), 1 << 16);
+    }
+
+    private static final class TrickleInputStream extends ByteArrayInputStream {
+        private final int step;
+
+        TrickleInputStream(byte[] bytes, int step) {
+            super(bytes);
+            this.step = step;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, step));
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package wallf.basenencodings;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class EngineTest {
+
+    // the engines unavailable on the runtime fall back to scalar, the vector and jdk engines are compared when the tests run on the multi-release JAR
+    private static final String[] ENGINES = {EngineSelection.UNROLLED, EngineSelection.VECTOR, EngineSelection.JDK, EngineSelection.AUTO,
+            EngineSelection.SCALAR + "," + EngineSelection.UNROLLED, EngineSelection.UNROLLED + "," + EngineSelection.VECTOR};
+
+    // past the small class, so both size classes and every tail of the unrolled steps are covered
+    private static final int MAX_LENGTH = EngineSelection.SMALL_SIZE + 64;
+
+    @Test
+    public void everyBase16EngineMatchesScalar() {
+        for (String name : ENGINES) {
+            final Base16 engine = newEngine(name, new Factory() {
+                @Override
+                CalibratedEngine create() {
+                    return new Base16(Base16Encoding.STANDARD_ALPHABET.toCharArray());
+                }
+            });
+            assertMatchesScalar(name, engine, engine.isAscii(), new Encoder() {
+                @Override
+                int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+                    return engine.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+                }
+
+                @Override
+                int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+                    return engine.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+                }
+            });
+        }
+    }
+
+    @Test
+    public void everyBase32EngineMatchesScalar() {
+        final String[] alphabets = {Base32Encoding.STANDARD_ALPHABET, Base32HexEncoding.STANDARD_ALPHABET, "ÀBCDEFGHIJKLMNOPQRSTUVWXYZ234567"};
+        for (final String alphabet : alphabets) {
+            for (final boolean paddingRequired : new boolean[]{true, false}) {
+                for (String name : ENGINES) {
+                    final Base32 engine = newEngine(name, new Factory() {
+                        @Override
+                        CalibratedEngine create() {
+                            return new Base32(alphabet.toCharArray(), Base32Encoding.STANDARD_PADDING, paddingRequired);
+                        }
+                    });
+                    assertMatchesScalar(name + ", " + alphabet, engine, engine.isAscii(), new Encoder() {
+                        @Override
+                        int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+                            return engine.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+                        }
+
+                        @Override
+                        int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+                            return engine.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    @Test
+    public void everyBase64EngineMatchesScalar() {
+        final String[] alphabets = {Base64Encoding.STANDARD_ALPHABET, Base64SafeEncoding.STANDARD_ALPHABET};
+        for (final String alphabet : alphabets) {
+            for (final boolean paddingRequired : new boolean[]{true, false}) {
+                for (String name : ENGINES) {
+                    final Base64 engine = newEngine(name, new Factory() {
+                        @Override
+                        CalibratedEngine create() {
+                            return new Base64(alphabet.toCharArray(), Base64Encoding.STANDARD_PADDING, paddingRequired);
+                        }
+                    });
+                    assertMatchesScalar(name + ", " + alphabet, engine, engine.isAscii(), new Encoder() {
+                        @Override
+                        int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut) {
+                            return engine.encode(bytesIn, offsetIn, lengthIn, charsOut, offsetOut);
+                        }
+
+                        @Override
+                        int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut) {
+                            return engine.encode(bytesIn, offsetIn, lengthIn, asciiOut, offsetOut);
+                        }
+                    });
+                    assertDecodesLikeScalar(name + ", " + alphabet, engine);
+                }
+            }
+        }
+    }
+
+    private static void assertMatchesScalar(String message, CalibratedEngine engine, boolean ascii, Encoder selected) {
+        byte[] bytes = new byte[MAX_LENGTH + 8];
+        new Random(message.hashCode()).nextBytes(bytes);
+        for (int offsetIn = 0; offsetIn < 4; offsetIn++) {
+            for (int lengthIn = 0; lengthIn <= MAX_LENGTH; lengthIn++) {
+                // the output has a leading and a trailing sentinel, so a write out of the range shows up as well
+                int offsetOut = lengthIn % 3, lengthOut = engine.encodeSize(lengthIn);
+                String at = message + ", offset " + offsetIn + ", length " + lengthIn;
+                char[] expected = new char[offsetOut + lengthOut + 2], actual = new char[expected.length];
+                Arrays.fill(expected, '*');
+                Arrays.fill(actual, '*');
+                engine.encode(null, bytes, offsetIn, lengthIn, expected, offsetOut, lengthOut);
+                assertEquals(at, lengthOut, selected.encode(bytes, offsetIn, lengthIn, actual, offsetOut));
+                assertArrayEquals(at, expected, actual);
+                if (!ascii)
+                    continue;
+                byte[] expectedAscii = new byte[expected.length], actualAscii = new byte[expected.length];
+                Arrays.fill(expectedAscii, (byte) '*');
+                Arrays.fill(actualAscii, (byte) '*');
+                engine.encode(null, bytes, offsetIn, lengthIn, expectedAscii, offsetOut, lengthOut);
+                assertEquals(at, lengthOut, selected.encode(bytes, offsetIn, lengthIn, actualAscii, offsetOut));
+                assertArrayEquals(at, expectedAscii, actualAscii);
+                // the whole arrays are the case the codec of the platform takes
+                byte[] whole = Arrays.copyOfRange(bytes, offsetIn, offsetIn + lengthIn);
+                expectedAscii = new byte[lengthOut];
+                actualAscii = new byte[lengthOut];
+                engine.encode(null, whole, 0, lengthIn, expectedAscii, 0, lengthOut);
+                selected.encode(whole, 0, lengthIn, actualAscii, 0);
+                assertArrayEquals(at, expectedAscii, actualAscii);
+            }
+        }
+    }
+
+    private static void assertDecodesLikeScalar(String message, Base64 engine) {
+        if (!engine.isAscii())
+            return;
+        byte[] bytes = new byte[MAX_LENGTH];
+        new Random(message.hashCode()).nextBytes(bytes);
+        for (int length = 1; length <= MAX_LENGTH; length++) {
+            byte[] whole = Arrays.copyOf(bytes, length), ascii = new byte[engine.encodeSize(length)];
+            engine.encode(null, whole, 0, length, ascii, 0, ascii.length);
+            byte[] decoded = new byte[length];
+            assertEquals(length, engine.decode(ascii, 0, ascii.length, decoded, 0));
+            assertArrayEquals(message + ", length " + length, whole, decoded);
+        }
+    }
+
+    private static <T> T newEngine(String name, Factory factory) {
+        String previous = System.getProperty(EngineSelection.PROPERTY);
+        System.setProperty(EngineSelection.PROPERTY, name);
+        try {
+            @SuppressWarnings("unchecked")
+            T engine = (T) factory.create();
+            return engine;
+        } finally {
+            if (previous == null)
+                System.clearProperty(EngineSelection.PROPERTY);
+            else
+                System.setProperty(EngineSelection.PROPERTY, previous);
+        }
+    }
+
+    private abstract static class Factory {
+        abstract CalibratedEngine create();
+    }
+
+    private abstract static class Encoder {
+        abstract int encode(byte[] bytesIn, int offsetIn, int lengthIn, char[] charsOut, int offsetOut);
+
+        abstract int encode(byte[] bytesIn, int offsetIn, int lengthIn, byte[] asciiOut, int offsetOut);
+    }
+}
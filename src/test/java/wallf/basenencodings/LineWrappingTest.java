@@ -0,0 +1,110 @@
+package wallf.basenencodings;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static wallf.basenencodings.BaseEncodingTest.ascii;
+
+public class LineWrappingTest {
+
+    private static final String A76 = repeat('A', 76);
+    private static final String A64 = repeat('A', 64);
+
+    @Test
+    public void wrapsMimeLinesOf76CharactersByCrlf() {
+        // RFC 2045 section 6.8, no separator after the last line
+        BaseEncoding mime = BaseEncoding.getBase64Mime();
+        assertEquals(76, mime.getLineLength());
+        assertEquals("\r\n", mime.getLineSeparator());
+        assertEquals(A76, mime.toBaseString(new byte[57]));
+        assertEquals(A76 + "\r\nAAAA", mime.toBaseString(new byte[60]));
+        assertEquals(A76 + "\r\n" + A76 + "\r\nAA==", mime.toBaseString(new byte[115]));
+    }
+
+    @Test
+    public void wrapsPemLinesOf64CharactersByCrlf() {
+        // RFC 7468 section 2, the lines are 64 characters but the last one
+        BaseEncoding pem = BaseEncoding.getBase64Pem();
+        assertEquals(64, pem.getLineLength());
+        assertEquals(A64, pem.toBaseString(new byte[48]));
+        assertEquals(A64 + "\r\nAA==", pem.toBaseString(new byte[49]));
+        assertEquals(A64 + "\r\nZm9vYmFy", pem.toBaseString(BaseEncodingTest.concat(new byte[48], BaseEncodingTest.bytes("foobar"))));
+    }
+
+    @Test
+    public void decodesTheSeparatorsOfTheWrappedEncodings() {
+        BaseEncoding pem = BaseEncoding.getBase64Pem();
+        byte[] expected = BaseEncodingTest.concat(new byte[48], BaseEncodingTest.bytes("foobar"));
+        String s = A64 + "\r\nZm9vYmFy";
+        assertArrayEquals(expected, pem.fromBaseString(s));
+        assertArrayEquals(expected, pem.tryFromBaseString(s));
+        assertArrayEquals(expected, pem.decode(s.toCharArray()));
+        assertArrayEquals(expected, pem.decodeFromAscii(ascii(s)));
+        assertTrue(pem.isValidBaseString(s));
+        // the lines of the decoders are not required to be full, a quantum could be split by a separator
+        assertArrayEquals(BaseEncodingTest.bytes("foobar"), pem.fromBaseString("Zm\r\n9vYm\r\nFy\r\n"));
+    }
+
+    @Test
+    public void rejectsInvalidWrappedSequencesWithTheIndexOfTheInvalidCharacter() {
+        BaseEncoding mime = BaseEncoding.getBase64Mime();
+        String s = A76 + "\r\nZm*vYmFy";
+        assertNull(mime.tryFromBaseString(s));
+        assertFalse(mime.isValidBaseString(s));
+        try {
+            mime.fromBaseString(s);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("index 80"));
+        }
+        // data after the padding on the next line
+        assertNull(mime.tryFromBaseString("Zg==\r\nZg=="));
+    }
+
+    @Test
+    public void roundTripsTheWrappedEncodingsThroughTheBuffersAndTheBatches() {
+        Random random = new Random(7468);
+        BaseEncoding[] encodings = {BaseEncoding.getBase64Mime(), BaseEncoding.getBase64Pem(), BaseEncoding.getBase64Mime().withoutPadding()};
+        for (BaseEncoding encoding : encodings) {
+            byte[] bytes = new byte[1000];
+            random.nextBytes(bytes);
+            int[] offsetsIn = {0, 0, 1, 57, 58, 300, 1000};
+            int[] offsetsOut = new int[offsetsIn.length];
+            char[] chars = encoding.encodeBatch(bytes, offsetsIn, offsetsOut);
+            int[] decodedOffsets = new int[offsetsIn.length];
+            assertArrayEquals(bytes, encoding.decodeBatch(chars, offsetsOut, decodedOffsets));
+            assertArrayEquals(offsetsIn, decodedOffsets);
+
+            String s = encoding.toBaseString(bytes);
+            // a destination smaller than the result is filled with whole quanta
+            ByteBuffer dst = ByteBuffer.allocate(bytes.length);
+            CharBuffer src = CharBuffer.wrap(s);
+            for (int limit = 100; src.hasRemaining(); limit = Math.min(limit + 100, bytes.length)) {
+                dst.limit(limit);
+                encoding.decode(src, dst);
+            }
+            assertArrayEquals(encoding.getEncodingName(), bytes, dst.array());
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            encoding.decodeFromAscii(ByteBuffer.wrap(ascii(s)), direct);
+            byte[] decoded = new byte[bytes.length];
+            ((ByteBuffer) direct.flip()).get(decoded);
+            assertArrayEquals(encoding.getEncodingName(), bytes, decoded);
+        }
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}